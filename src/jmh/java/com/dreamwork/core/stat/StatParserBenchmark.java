@@ -0,0 +1,53 @@
+package com.dreamwork.core.stat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장비 한 벌의 Lore 파싱 비용 비교 (이전 정규표현식 구현 vs 단일 패스 토크나이저)
+ * <p>
+ * 실행: {@code mvn -Pbenchmark test-compile exec:exec@jmh}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatParserBenchmark {
+
+    /** ItemFactory가 만드는 형태의 장비 Lore (스탯 줄 + 설명 줄) */
+    private final List<String> lore = List.of(
+            "§7힘: +10",
+            "§7민첩: +5",
+            "§7체력: 20",
+            "§7지능: 3",
+            "§7행운: 2",
+            "§7채굴 속도: +5%",
+            "",
+            "§8광산 깊은 곳에서 발견된 곡괭이");
+
+    private final LegacyStatParser legacy = new LegacyStatParser();
+    private final StatParser parser = new StatParser();
+
+    @Benchmark
+    public int[] legacyRegex() {
+        return legacy.parseAllStats(lore);
+    }
+
+    @Benchmark
+    public int[] singlePass() {
+        return parser.parseAllStats(lore);
+    }
+}
@@ -13,6 +13,8 @@ import com.dreamwork.core.stat.InventoryScanner;
 import com.dreamwork.core.stat.StatManager;
 import com.dreamwork.core.database.StorageManager;
 import com.dreamwork.core.database.AutoSaveScheduler;
+import com.dreamwork.core.database.IoExecutor;
+import com.dreamwork.core.database.UserDataTransfer;
 
 import com.dreamwork.core.gui.SmartInventory;
 import com.dreamwork.core.gui.provider.JobSelectionProvider;
@@ -22,7 +24,6 @@ import com.dreamwork.core.item.ItemFactory;
 import com.dreamwork.core.quest.QuestUI;
 import com.dreamwork.core.skill.SkillManager;
 import com.dreamwork.core.skill.passive.*;
-import com.dreamwork.core.stat.resource.ManaRegenTask;
 import com.dreamwork.core.ui.ActionBarManager;
 import com.dreamwork.core.ui.BossBarManager;
 import com.dreamwork.core.ui.ScoreboardHUD;
@@ -35,6 +36,7 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -64,6 +66,9 @@ public final class DreamWorkCore extends JavaPlugin {
     /** 저장소 매니저 */
     private StorageManager storageManager;
 
+    /** 공용 I/O 실행기 (가상 스레드) */
+    private IoExecutor ioExecutor;
+
     /** 외부 플러그인 연동 매니저 */
     private HookManager hookManager;
 
@@ -105,6 +110,7 @@ public final class DreamWorkCore extends JavaPlugin {
 
     /** 상점 매니저 */
     private com.dreamwork.core.economy.shop.ShopManager shopManager;
+    private com.dreamwork.core.town.TownManager townManager;
 
     /** 채굴 콤보 시스템 */
     private MiningComboSystem miningComboSystem;
@@ -123,6 +129,10 @@ public final class DreamWorkCore extends JavaPlugin {
     public com.dreamwork.core.economy.shop.ShopManager getShopManager() {
         return shopManager;
     }
+
+    public com.dreamwork.core.town.TownManager getTownManager() {
+        return townManager;
+    }
     // ... (fields continue)
 
     // ... (getInstance)
@@ -138,8 +148,11 @@ public final class DreamWorkCore extends JavaPlugin {
         // 기본 리소스 저장 (jobs/miner.yml)
         saveDefaultResources();
 
-        // 매니저 초기화
-        initializeManagers();
+        // 매니저 초기화 (스키마 마이그레이션 실패 시 중단)
+        if (!initializeManagers()) {
+            getServer().getPluginManager().disablePlugin(this);
+            return;
+        }
 
         // 매니저 활성화
         enableManagers();
@@ -147,11 +160,8 @@ public final class DreamWorkCore extends JavaPlugin {
         // 이벤트 리스너 등록
         registerListeners();
 
-        // 자동 저장 태스크 시작 (30초마다, Dirty-Check 기반)
-        new AutoSaveScheduler(this, 600L).start();
-
-        // 마나 재생 태스크 (1초마다)
-        new ManaRegenTask(this).start();
+        // 자동 저장 스케줄러 시작 (유저별로 주기 안에 분산, Dirty-Check 기반)
+        new AutoSaveScheduler(this).start();
 
         // UI 매니저 시작
         actionBarManager = new ActionBarManager(this);
@@ -188,6 +198,16 @@ public final class DreamWorkCore extends JavaPlugin {
     public void onDisable() {
         disableManagers();
 
+        // 저장 큐와 캐시에 남은 데이터를 모두 기록 후 종료 (제한 시간 내)
+        if (storageManager != null) {
+            storageManager.shutdown();
+        }
+
+        // 남은 DB 작업을 기다린 뒤 중단 (연결을 닫기 전)
+        if (ioExecutor != null) {
+            ioExecutor.shutdown(getConfig().getLong("io.shutdown-timeout-ms", 5000L));
+        }
+
         if (databaseManager != null) {
             databaseManager.close();
         }
@@ -218,11 +238,22 @@ public final class DreamWorkCore extends JavaPlugin {
 
     /**
      * 모든 매니저를 초기화합니다.
+     *
+     * @return 데이터베이스 초기화에 실패하면 false (플러그인을 비활성화해야 함)
      */
-    private void initializeManagers() {
+    private boolean initializeManagers() {
+        // 공용 I/O 실행기 (DB/파일 작업은 모두 여기서 실행)
+        this.ioExecutor = new IoExecutor(this, getConfig().getInt("io.max-concurrency", 8));
+
         // 데이터베이스 매니저 초기화
         this.databaseManager = new com.dreamwork.core.database.DatabaseManager(this);
-        this.databaseManager.initialize();
+        try {
+            this.databaseManager.initialize();
+        } catch (SQLException e) {
+            // 이전 스키마에 현재 저장 로직을 실행하면 모든 저장이 실패하므로 기동하지 않음
+            getLogger().log(Level.SEVERE, "[Database] 스키마 마이그레이션 실패 - 플러그인을 비활성화합니다.", e);
+            return false;
+        }
 
         // 저장소 매니저 초기화
         this.storageManager = new StorageManager(this, databaseManager);
@@ -262,10 +293,15 @@ public final class DreamWorkCore extends JavaPlugin {
         shopManager = new com.dreamwork.core.economy.shop.ShopManager(this);
         registerManager(shopManager);
 
+        // 마을 매니저
+        townManager = new com.dreamwork.core.town.TownManager(this);
+        registerManager(townManager);
+
         // 아이템 팩토리
         itemFactory = new ItemFactory(this);
 
         getLogger().info(managers.size() + "개의 매니저가 초기화되었습니다.");
+        return true;
     }
 
     /**
@@ -436,6 +472,10 @@ public final class DreamWorkCore extends JavaPlugin {
                     sendMessage(sender, "&e/dw job &7- 직업 선택 창 열기");
                     sendMessage(sender, "&e/dw stat &7- 스탯 프로필 열기");
                     sendMessage(sender, "&e/dw reload &7- 설정 리로드");
+                    if (sender.hasPermission("dreamwork.admin")) {
+                        sendMessage(sender, "&c/dw storage &7- 저장소 지표 보기 (관리자)");
+                        sendMessage(sender, "&c/dw data <export [binary|json]|import <파일>|compact [일수]> &7- 유저 데이터 일괄 작업 (관리자)");
+                    }
                 }
                 case "job" -> {
                     if (!(sender instanceof org.bukkit.entity.Player player)) {
@@ -557,6 +597,23 @@ public final class DreamWorkCore extends JavaPlugin {
                     player.getInventory().addItem(scythe);
                     sendMessage(sender, "&a풍요의 낫을 지급했습니다.");
                 }
+                case "storage" -> {
+                    if (!sender.hasPermission("dreamwork.admin")) {
+                        sendMessage(sender, getMessage("no-permission"));
+                        return true;
+                    }
+                    sendMessage(sender, "&6=== 저장소 지표 ===");
+                    for (String line : storageManager.describeMetrics()) {
+                        sendMessage(sender, "&7" + line);
+                    }
+                }
+                case "data" -> {
+                    if (!sender.hasPermission("dreamwork.admin")) {
+                        sendMessage(sender, getMessage("no-permission"));
+                        return true;
+                    }
+                    handleDataCommand(sender, args);
+                }
                 case "shop" -> {
                     if (!(sender instanceof org.bukkit.entity.Player player)) {
                         sendMessage(sender, "&c플레이어만 사용할 수 있습니다.");
@@ -589,6 +646,46 @@ public final class DreamWorkCore extends JavaPlugin {
         return false;
     }
 
+    /**
+     * /dw data 하위 명령어를 처리합니다. (작업은 비동기로 실행되고 결과는 나중에 전송됨)
+     */
+    private void handleDataCommand(CommandSender sender, String[] args) {
+        String action = args.length > 1 ? args[1].toLowerCase() : "";
+        switch (action) {
+            case "export" -> {
+                UserDataTransfer.Format format = args.length > 2 && args[2].equalsIgnoreCase("json")
+                        ? UserDataTransfer.Format.JSON
+                        : UserDataTransfer.Format.BINARY;
+                sendMessage(sender, "&7유저 데이터를 내보내는 중...");
+                storageManager.exportUsers(format, message -> sendMessage(sender, message));
+            }
+            case "import" -> {
+                if (args.length < 3) {
+                    sendMessage(sender, "&c사용법: /dw data import <파일 이름>");
+                    return;
+                }
+                sendMessage(sender, "&7유저 데이터를 가져오는 중... (접속 중인 유저는 건너뜀)");
+                storageManager.importUsers(args[2], message -> sendMessage(sender, message));
+            }
+            case "compact" -> {
+                int days = 0;
+                if (args.length > 2) {
+                    try {
+                        days = Integer.parseInt(args[2]);
+                    } catch (NumberFormatException e) {
+                        sendMessage(sender, "&c일수는 숫자로 입력하세요.");
+                        return;
+                    }
+                }
+                sendMessage(sender, days > 0
+                        ? "&7저장소를 정리하는 중... (" + days + "일 이상 미접속 유저 삭제)"
+                        : "&7저장소를 정리하는 중...");
+                storageManager.compactUsers(days, message -> sendMessage(sender, message));
+            }
+            default -> sendMessage(sender, "&c사용법: /dw data <export [binary|json]|import <파일>|compact [일수]>");
+        }
+    }
+
     /**
      * 메시지를 전송합니다.
      * 
@@ -621,6 +718,15 @@ public final class DreamWorkCore extends JavaPlugin {
         return getConfig().getBoolean("general.debug", false);
     }
 
+    /**
+     * 공용 I/O 실행기를 반환합니다.
+     * 
+     * @return IoExecutor 인스턴스
+     */
+    public IoExecutor getIoExecutor() {
+        return ioExecutor;
+    }
+
     /**
      * 저장소 매니저를 반환합니다.
      * 
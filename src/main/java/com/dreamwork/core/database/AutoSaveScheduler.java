@@ -2,17 +2,36 @@ package com.dreamwork.core.database;
 
 import com.dreamwork.core.DreamWorkCore;
 import com.dreamwork.core.model.UserData;
-import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
+import com.dreamwork.core.stat.StatManager;
 import org.bukkit.scheduler.BukkitRunnable;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Dirty-Check 기반 자동 저장 스케줄러
- * 
+ * 분산(Staggered) 자동 저장 스케줄러
+ *
  * <p>
- * 주기적으로 변경된 데이터만 저장합니다.
+ * 매 틱 실행되며, 각 유저는 UUID 해시로 저장 주기 안의 한 틱(슬롯)에 배정됩니다.
+ * 주기마다 모든 유저가 한 번씩 확인되지만 한 틱에는 일부만 저장되므로
+ * 주기적인 틱 지연과 DB 쓰기 폭주가 생기지 않습니다.
+ * 슬롯 배정은 주기 시작 시 한 번 계산하며, 주기 도중 접속한 유저는 다음 주기부터 포함됩니다.
+ * </p>
+ * <p>
+ * 한 틱의 저장 인원은 저장 큐의 대기량과 평균 저장 시간에 따라 조절됩니다.
+ * DB가 느려지면 절반으로 줄이고, 여유가 있으면 1명씩 늘립니다.
+ * 한도를 넘은 유저는 다음 틱으로 미뤄집니다.
+ * </p>
+ * <p>
+ * 저널은 주기 시작 시 새 세그먼트로 넘기고, 한 주기 동안 모든 유저가 저장 요청되면
+ * 그 저장이 DB에 반영된 뒤 이전 세그먼트를 삭제합니다.
  * </p>
  */
 public class AutoSaveScheduler extends BukkitRunnable {
@@ -20,39 +39,158 @@ public class AutoSaveScheduler extends BukkitRunnable {
     private final DreamWorkCore plugin;
     private final StorageManager storageManager;
 
-    /** 저장 주기 (틱 단위) */
-    private final long interval;
+    /** 저장 주기 (틱 단위) = 슬롯 수 */
+    private final int interval;
+
+    /** 한 틱 최대 저장 인원 */
+    private final int maxPerTick;
+
+    /** 이 이상 저장 큐가 밀리면 속도를 줄임 */
+    private final int maxQueueSize;
+
+    /** 이보다 평균 저장 시간이 길면 속도를 줄임 (ms) */
+    private final double targetLatencyMillis;
+
+    /** 현재 한 틱 저장 한도 (적응형) */
+    private int perTickLimit;
+
+    private long tick = 0;
+
+    /** 이번 주기의 슬롯별 유저 (처리한 슬롯은 제거) */
+    private final Map<Integer, List<UUID>> slots = new HashMap<>();
+
+    /** 한도 초과로 미뤄진 유저 (다음 틱 우선 처리) */
+    private final Set<UUID> backlog = new LinkedHashSet<>();
 
-    public AutoSaveScheduler(DreamWorkCore plugin, long intervalTicks) {
+    /** 이번 주기 시작 시 회전한 저널 세그먼트 */
+    private CompletableFuture<Long> rotation;
+
+    private int savedThisCycle = 0;
+
+    public AutoSaveScheduler(DreamWorkCore plugin) {
         this.plugin = plugin;
         this.storageManager = plugin.getStorageManager();
-        this.interval = intervalTicks;
+        this.interval = (int) Math.max(20L, plugin.getConfig().getLong("auto-save.interval-ticks", 6000L));
+        this.maxPerTick = Math.max(1, plugin.getConfig().getInt("auto-save.max-per-tick", 20));
+        this.maxQueueSize = Math.max(1, plugin.getConfig().getInt("auto-save.max-queue-size", 200));
+        this.targetLatencyMillis = plugin.getConfig().getDouble("auto-save.target-latency-ms", 100.0);
+        this.perTickLimit = maxPerTick;
     }
 
     /**
      * 스케줄러를 시작합니다.
      */
     public void start() {
-        this.runTaskTimer(plugin, interval, interval); // runTaskTimer for sync iteration, saveAsync for async IO
-        plugin.getLogger().info("AutoSaveScheduler 시작됨 (주기: " + (interval / 20) + "초)");
+        this.runTaskTimer(plugin, 1L, 1L);
+        plugin.getLogger().info("AutoSaveScheduler 시작됨 (주기: " + (interval / 20) + "초, 틱당 최대 " + maxPerTick + "명)");
     }
 
     @Override
     public void run() {
-        AtomicInteger savedCount = new AtomicInteger(0);
+        int slot = (int) (tick++ % interval);
+        if (slot == 0) {
+            startCycle();
+            assignSlots();
+        }
 
-        // Iterate online players (Sync safety)
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            UserData data = storageManager.getUserData(player.getUniqueId());
+        adjustRate();
+        int budget = perTickLimit;
+
+        // 1. 이전 틱에서 밀린 유저
+        Iterator<UUID> it = backlog.iterator();
+        while (budget > 0 && it.hasNext()) {
+            UserData data = storageManager.getUserData(it.next());
+            it.remove();
+            if (save(data)) {
+                budget--;
+            }
+        }
 
-            if (data != null && data.isDirty()) {
-                storageManager.saveUserAsync(data); // This is async internally
-                savedCount.incrementAndGet();
+        // 2. 이번 슬롯에 배정된 유저
+        List<UUID> assigned = slots.remove(slot);
+        if (assigned == null) {
+            return;
+        }
+        for (UUID uuid : assigned) {
+            UserData data = storageManager.getUserData(uuid);
+            if (data == null) {
+                continue; // 주기 도중 퇴장
+            }
+            if (budget > 0) {
+                if (save(data)) {
+                    budget--;
+                }
+            } else if (isDirtyAfterSync(data)) {
+                backlog.add(data.getUuid());
             }
         }
+    }
+
+    /**
+     * 새 주기를 시작합니다. 지난 주기의 저장 요청이 모두 끝났으면 저널 세그먼트를 정리합니다.
+     */
+    private void startCycle() {
+        if (!backlog.isEmpty()) {
+            // 지난 주기의 유저가 아직 남아 있으면 회전을 미룸 (이전 세그먼트 보존)
+            return;
+        }
+        storageManager.truncateJournalAfterFlush(rotation);
+        rotation = storageManager.rotateJournal();
+
+        if (plugin.isDebugMode() && savedThisCycle > 0) {
+            plugin.getLogger().info("[AutoSave] 주기 완료: " + savedThisCycle + "명 저장 (틱당 한도: " + perTickLimit
+                    + ", 평균 저장 " + String.format("%.1f", storageManager.getSaveQueue().getAverageWriteMillis())
+                    + "ms)");
+        }
+        savedThisCycle = 0;
+    }
+
+    /**
+     * 캐시된 유저를 UUID 해시로 이번 주기의 슬롯에 배정합니다.
+     */
+    private void assignSlots() {
+        slots.clear();
+        for (UUID uuid : storageManager.getUserCache().keySet()) {
+            slots.computeIfAbsent(Math.floorMod(uuid.hashCode(), interval), k -> new ArrayList<>()).add(uuid);
+        }
+    }
 
-        if (plugin.isDebugMode() && savedCount.get() > 0) {
-            plugin.getLogger().info("[AutoSave] " + savedCount.get() + "명 데이터 저장됨");
+    /**
+     * 저장 큐 상태에 따라 틱당 저장 한도를 조절합니다. (AIMD)
+     */
+    private void adjustRate() {
+        SaveQueue queue = storageManager.getSaveQueue();
+        if (queue.size() > maxQueueSize || queue.getAverageWriteMillis() > targetLatencyMillis) {
+            perTickLimit = Math.max(1, perTickLimit / 2);
+        } else if (perTickLimit < maxPerTick) {
+            perTickLimit++;
+        }
+    }
+
+    private boolean save(UserData data) {
+        if (data == null || !isDirtyAfterSync(data)) {
+            return false;
+        }
+        storageManager.saveUserAsync(data);
+        savedThisCycle++;
+        return true;
+    }
+
+    /**
+     * 스탯 매니저의 기본 스탯을 유저 데이터에 반영한 뒤 저장 필요 여부를 반환합니다.
+     * 값이 바뀐 경우에만 반영하여 불필요한 저장을 만들지 않습니다.
+     */
+    private boolean isDirtyAfterSync(UserData data) {
+        StatManager statManager = plugin.getStatManager();
+        StatManager.PlayerStats stats = statManager != null ? statManager.getCachedStats(data.getUuid()) : null;
+        if (stats != null && (stats.getBaseStr() != data.getStr()
+                || stats.getBaseDex() != data.getDex()
+                || stats.getBaseCon() != data.getCon()
+                || stats.getBaseInt() != data.getIntel()
+                || stats.getBaseLuck() != data.getLuk()
+                || stats.getStatPoints() != data.getStatPoints())) {
+            data.setStats(stats);
         }
+        return data.isDirty();
     }
 }
@@ -1,14 +1,25 @@
 package com.dreamwork.core.database;
 
 import com.dreamwork.core.DreamWorkCore;
+import com.dreamwork.core.database.migration.SchemaMigrator;
+import com.dreamwork.core.database.repository.MemoryRankingRepository;
+import com.dreamwork.core.database.repository.MemoryTownRepository;
+import com.dreamwork.core.database.repository.MemoryUserRepository;
+import com.dreamwork.core.database.repository.RankingRepository;
+import com.dreamwork.core.database.repository.SqlRankingRepository;
+import com.dreamwork.core.database.repository.SqlTownRepository;
+import com.dreamwork.core.database.repository.SqlUserRepository;
+import com.dreamwork.core.database.repository.TownRepository;
+import com.dreamwork.core.database.repository.UserRepository;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 
 import java.io.File;
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.sql.Statement;
 
 /**
@@ -17,6 +28,16 @@ import java.sql.Statement;
  * HikariCP를 사용하여 SQLite 또는 MySQL 데이터베이스 연결을 관리합니다.
  * SQLite가 기본값이며, 소규모 서버에 권장됩니다. (명령.txt 지침 준수)
  * </p>
+ * <p>
+ * SQLite는 파일 잠금 하나를 공유하므로 WAL 모드로 열고,
+ * 쓰기용 연결 1개({@link #getConnection()})와 읽기 전용 풀({@link #getReadConnection()})을 분리합니다.
+ * 쓰기가 한 연결로 직렬화되어 SQLITE_BUSY 경합이 없고, 읽기는 쓰기를 기다리지 않습니다.
+ * MySQL에서는 두 메서드가 같은 풀을 사용합니다.
+ * </p>
+ * <p>
+ * 각 시스템은 연결 대신 저장소({@link UserRepository}, {@link TownRepository},
+ * {@link RankingRepository})를 사용하며, {@code database.type: MEMORY}이면 DB 없이 메모리 구현을 사용합니다.
+ * </p>
  * 
  * @author DreamWork Team
  * @since 1.0.0
@@ -25,21 +46,48 @@ public class DatabaseManager {
 
     private final DreamWorkCore plugin;
     private HikariDataSource dataSource;
+
+    /** SQLite 읽기 전용 풀 (MySQL에서는 null) */
+    private HikariDataSource readDataSource;
+
     private boolean usingSqlite = true;
 
+    private UserRepository userRepository;
+    private TownRepository townRepository;
+    private RankingRepository rankingRepository;
+
+    /** 저장소 지표 (커넥션 대기 시간은 여기서 기록) */
+    private final StorageMetrics metrics = new StorageMetrics();
+
+    /** 저장/로드 경로의 연결별 구문 캐시 */
+    private final StatementCache statementCache = new StatementCache(metrics);
+
     public DatabaseManager(DreamWorkCore plugin) {
         this.plugin = plugin;
     }
 
     /**
      * 데이터베이스 연결을 초기화합니다.
+     *
+     * @throws SQLException 스키마 마이그레이션 실패 시
      */
-    public void initialize() {
+    public void initialize() throws SQLException {
         String type = plugin.getConfig().getString("database.type", "SQLITE");
-        HikariConfig config = new HikariConfig();
+
+        if (type.equalsIgnoreCase("MEMORY")) {
+            // 메모리 저장소: DB 연결 없음 (테스트/부하 시뮬레이션 전용, 종료 시 데이터 소멸)
+            usingSqlite = false;
+            MemoryUserRepository users = new MemoryUserRepository();
+            this.userRepository = users;
+            this.townRepository = new MemoryTownRepository();
+            this.rankingRepository = new MemoryRankingRepository(users);
+            plugin.getLogger().warning("[Database] 메모리 저장소 모드입니다. 서버 종료 시 모든 데이터가 사라집니다!");
+            return;
+        }
 
         if (type.equalsIgnoreCase("MYSQL")) {
             // MySQL 설정 (선택적 - 대규모 서버용)
+            HikariConfig config = new HikariConfig();
             config.setJdbcUrl("jdbc:mysql://" +
                     plugin.getConfig().getString("database.host", "localhost") + ":" +
                     plugin.getConfig().getString("database.port", "3306") + "/" +
@@ -51,6 +99,10 @@ public class DatabaseManager {
             config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
             usingSqlite = false;
             plugin.getLogger().info("[Database] MySQL 모드로 연결합니다.");
+            config.setPoolName("DreamWork-Pool");
+            config.setMaximumPoolSize(plugin.getConfig().getInt("database.pool-size", 10));
+            config.setConnectionTimeout(plugin.getConfig().getLong("database.connection-timeout", 30000));
+            this.dataSource = new HikariDataSource(config);
         } else {
             // SQLite: 기본 내부 파일 DB (소규모 서버 권장)
             File folder = plugin.getDataFolder();
@@ -58,19 +110,97 @@ public class DatabaseManager {
                 folder.mkdirs();
             }
             File dbFile = new File(folder, "database.db");
-            config.setJdbcUrl("jdbc:sqlite:" + dbFile.getAbsolutePath());
             usingSqlite = true;
             plugin.getLogger().info("[Database] SQLite 모드로 연결합니다: " + dbFile.getAbsolutePath());
+            initializeSqlite(dbFile);
         }
 
-        config.setPoolName("DreamWork-Pool");
-        config.setMaximumPoolSize(plugin.getConfig().getInt("database.pool-size", 10));
-        config.setConnectionTimeout(plugin.getConfig().getLong("database.connection-timeout", 30000));
+        createTables();
 
-        this.dataSource = new HikariDataSource(config);
+        if (usingSqlite) {
+            reportSqliteSettings();
+        }
 
-        createTables();
-        migrateSchemaIfNeeded();
+        this.userRepository = new SqlUserRepository(plugin, this);
+        this.townRepository = new SqlTownRepository(this);
+        this.rankingRepository = new SqlRankingRepository(this);
+
+        // 버전 기반 마이그레이션 (데이터 변환 단계가 저장소를 사용하므로 저장소 생성 후 실행)
+        new SchemaMigrator(plugin, this).migrate();
+    }
+
+    /**
+     * SQLite 전용 프로필로 쓰기 연결 1개와 읽기 전용 풀을 생성합니다.
+     */
+    private void initializeSqlite(File dbFile) {
+        String url = "jdbc:sqlite:" + dbFile.getAbsolutePath();
+        long timeout = plugin.getConfig().getLong("database.connection-timeout", 30000);
+
+        // 쓰기 연결: 하나로 직렬화 (저장 큐, 마을 생성 등 모든 쓰기가 여기를 거침)
+        HikariConfig writer = new HikariConfig();
+        writer.setJdbcUrl(url);
+        applySqlitePragmas(writer);
+        writer.setPoolName("DreamWork-Writer");
+        writer.setMaximumPoolSize(1);
+        writer.setMinimumIdle(1);
+        writer.setConnectionTimeout(timeout);
+        this.dataSource = new HikariDataSource(writer);
+
+        // 읽기 풀: WAL 모드에서는 쓰기 중에도 마지막 커밋 시점을 읽을 수 있음
+        HikariConfig reader = new HikariConfig();
+        reader.setJdbcUrl(url);
+        applySqlitePragmas(reader);
+        reader.setConnectionInitSql("PRAGMA query_only = ON");
+        reader.setPoolName("DreamWork-Reader");
+        reader.setMaximumPoolSize(Math.max(1, plugin.getConfig().getInt("database.sqlite.reader-pool-size", 4)));
+        reader.setConnectionTimeout(timeout);
+        this.readDataSource = new HikariDataSource(reader);
+    }
+
+    /**
+     * 연결을 열 때 적용할 PRAGMA를 sqlite-jdbc 드라이버 속성으로 지정합니다.
+     */
+    private void applySqlitePragmas(HikariConfig config) {
+        config.addDataSourceProperty("journal_mode",
+                plugin.getConfig().getString("database.sqlite.journal-mode", "WAL"));
+        config.addDataSourceProperty("synchronous",
+                plugin.getConfig().getString("database.sqlite.synchronous", "NORMAL"));
+        config.addDataSourceProperty("busy_timeout",
+                String.valueOf(plugin.getConfig().getInt("database.sqlite.busy-timeout-ms", 5000)));
+    }
+
+    /**
+     * 실제로 적용된 SQLite 설정을 조회하여 로그로 남깁니다.
+     */
+    private void reportSqliteSettings() {
+        try (Connection conn = getConnection(); Statement stmt = conn.createStatement()) {
+            String journal = queryPragma(stmt, "journal_mode");
+            String synchronous = switch (queryPragma(stmt, "synchronous")) {
+                case "0" -> "OFF";
+                case "1" -> "NORMAL";
+                case "2" -> "FULL";
+                case "3" -> "EXTRA";
+                default -> "?";
+            };
+            String busyTimeout = queryPragma(stmt, "busy_timeout");
+
+            plugin.getLogger().info("[Database] SQLite 설정: journal_mode=" + journal.toUpperCase()
+                    + ", synchronous=" + synchronous
+                    + ", busy_timeout=" + busyTimeout + "ms"
+                    + ", writer=1, readers=" + readDataSource.getMaximumPoolSize());
+
+            if (!journal.equalsIgnoreCase("wal")) {
+                plugin.getLogger().warning("[Database] WAL 모드가 아닙니다. 읽기와 쓰기가 서로를 막을 수 있습니다.");
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().warning("SQLite 설정 확인 중 오류: " + e.getMessage());
+        }
+    }
+
+    private String queryPragma(Statement stmt, String pragma) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA " + pragma)) {
+            return rs.next() ? rs.getString(1) : "?";
+        }
     }
 
     /**
@@ -95,9 +225,21 @@ public class DatabaseManager {
                         last_daily_reset TEXT,
                         quest_data TEXT,
                         phase1_data TEXT,
-                        money DOUBLE DEFAULT 0.0
+                        money DOUBLE DEFAULT 0.0,
+                        kill_data TEXT,
+                        chunk_data BLOB,
+                        job_blob BLOB,
+                        quest_blob BLOB,
+                        kill_blob BLOB,
+                        last_seen BIGINT
                     )
                     """;
+
+            // MySQL의 BLOB은 64KB 제한이 있어 데이터가 많은 유저를 담지 못함
+            if (!usingSqlite) {
+                userTable = userTable.replace(" BLOB", " MEDIUMBLOB");
+            }
+
             stmt.execute(userTable);
 
             // 마을 데이터 테이블 (Town System)
@@ -118,13 +260,14 @@ public class DatabaseManager {
 
             stmt.execute(townTable);
 
-            // 직업 데이터 테이블 (Ranking System)
+            // 직업 데이터 테이블 (직업 데이터 원본 + 랭킹 조회)
             String jobTable = """
                     CREATE TABLE IF NOT EXISTS dw_jobs (
                         uuid VARCHAR(36),
                         job_id VARCHAR(32),
                         level INT DEFAULT 1,
                         exp DOUBLE DEFAULT 0.0,
+                        total_exp DOUBLE DEFAULT 0.0,
                         PRIMARY KEY (uuid, job_id)
                     )
                     """;
@@ -139,66 +282,117 @@ public class DatabaseManager {
     }
 
     /**
-     * 구버전 스키마를 새 버전으로 마이그레이션합니다.
-     * job_data, phase1_data 컬럼이 없으면 추가합니다.
+     * 데이터베이스 연결을 가져옵니다. 쓰기 작업은 반드시 이 연결을 사용합니다.
+     * SQLite에서는 연결이 하나뿐이므로 사용 후 즉시 반환해야 합니다.
+     * 
+     * @return Connection
+     * @throws SQLException 연결 실패 시
      */
-    private void migrateSchemaIfNeeded() {
-        try (Connection conn = getConnection()) {
-            DatabaseMetaData meta = conn.getMetaData();
+    public Connection getConnection() throws SQLException {
+        if (dataSource == null) {
+            throw new SQLException("DataSource가 초기화되지 않았습니다.");
+        }
+        return borrow(dataSource);
+    }
 
-            // job_data 컬럼 존재 확인
-            boolean hasJobData = checkColumnExists(meta, "job_data");
+    /**
+     * 읽기 전용 연결을 가져옵니다. (조회 전용)
+     * SQLite에서는 별도 읽기 풀에서, MySQL에서는 기본 풀에서 가져옵니다.
+     * 
+     * @return 읽기 전용 Connection
+     * @throws SQLException 연결 실패 시
+     */
+    public Connection getReadConnection() throws SQLException {
+        if (readDataSource == null) {
+            return getConnection();
+        }
+        return borrow(readDataSource);
+    }
 
-            if (!hasJobData) {
-                // 구버전 → job_data 컬럼 추가
-                try (Statement stmt = conn.createStatement()) {
-                    stmt.execute("ALTER TABLE dw_users ADD COLUMN job_data TEXT");
-                    plugin.getLogger().info("[Database] job_data 컬럼 추가 완료 (스키마 마이그레이션)");
-                }
-            }
+    /**
+     * 풀에서 연결을 빌리며 대기 시간과 시간 초과를 기록합니다.
+     */
+    private Connection borrow(HikariDataSource source) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            Connection conn = source.getConnection();
+            metrics.recordPoolWait(System.nanoTime() - start);
+            return conn;
+        } catch (SQLTransientConnectionException e) {
+            // HikariCP: connection-timeout 안에 빈 연결을 얻지 못함 (풀 고갈)
+            metrics.recordPoolTimeout();
+            throw e;
+        }
+    }
 
-            // phase1_data 컬럼 존재 확인 (신규)
-            boolean hasPhase1Data = checkColumnExists(meta, "phase1_data");
+    /**
+     * 커넥션 풀 상태를 한 줄로 반환합니다.
+     * 
+     * @return "사용 중/유휴/대기" 요약 또는 null (메모리 저장소)
+     */
+    public String describePools() {
+        if (dataSource == null) {
+            return null;
+        }
+        String result = describePool("쓰기", dataSource);
+        if (readDataSource != null) {
+            result += ", " + describePool("읽기", readDataSource);
+        }
+        return result;
+    }
 
-            if (!hasPhase1Data) {
-                try (Statement stmt = conn.createStatement()) {
-                    stmt.execute("ALTER TABLE dw_users ADD COLUMN phase1_data TEXT");
-                    plugin.getLogger().info("[Database] phase1_data 컬럼 추가 완료 (스키마 마이그레이션)");
-                }
-            }
+    private static String describePool(String label, HikariDataSource source) {
+        HikariPoolMXBean pool = source.getHikariPoolMXBean();
+        if (pool == null) {
+            return label + " 풀 시작 전";
+        }
+        return label + " 사용 " + pool.getActiveConnections() + "/" + source.getMaximumPoolSize()
+                + ", 대기 스레드 " + pool.getThreadsAwaitingConnection();
+    }
 
-            // money 컬럼 존재 확인 (Phase 2)
-            boolean hasMoney = checkColumnExists(meta, "money");
+    /**
+     * 저장소 지표를 반환합니다.
+     * 
+     * @return 저장소 지표
+     */
+    public StorageMetrics getMetrics() {
+        return metrics;
+    }
 
-            if (!hasMoney) {
-                try (Statement stmt = conn.createStatement()) {
-                    stmt.execute("ALTER TABLE dw_users ADD COLUMN money DOUBLE DEFAULT 0.0");
-                    plugin.getLogger().info("[Database] money 컬럼 추가 완료 (스키마 마이그레이션)");
-                }
-            }
+    /**
+     * 연결별 PreparedStatement 캐시를 반환합니다.
+     * 
+     * @return 구문 캐시
+     */
+    public StatementCache getStatementCache() {
+        return statementCache;
+    }
 
-        } catch (SQLException e) {
-            plugin.getLogger().warning("스키마 마이그레이션 확인 중 오류: " + e.getMessage());
-        }
+    /**
+     * 유저 저장소를 반환합니다.
+     * 
+     * @return 유저 저장소
+     */
+    public UserRepository getUserRepository() {
+        return userRepository;
     }
 
-    private boolean checkColumnExists(DatabaseMetaData meta, String columnName) throws SQLException {
-        try (ResultSet rs = meta.getColumns(null, null, "dw_users", columnName)) {
-            return rs.next();
-        }
+    /**
+     * 마을 저장소를 반환합니다.
+     * 
+     * @return 마을 저장소
+     */
+    public TownRepository getTownRepository() {
+        return townRepository;
     }
 
     /**
-     * 데이터베이스 연결을 가져옵니다.
+     * 랭킹 저장소를 반환합니다.
      * 
-     * @return Connection
-     * @throws SQLException 연결 실패 시
+     * @return 랭킹 저장소
      */
-    public Connection getConnection() throws SQLException {
-        if (dataSource == null) {
-            throw new SQLException("DataSource가 초기화되지 않았습니다.");
-        }
-        return dataSource.getConnection();
+    public RankingRepository getRankingRepository() {
+        return rankingRepository;
     }
 
     /**
@@ -214,6 +408,10 @@ public class DatabaseManager {
      * 데이터베이스 연결을 종료합니다.
      */
     public void close() {
+        statementCache.close();
+        if (readDataSource != null) {
+            readDataSource.close();
+        }
         if (dataSource != null) {
             dataSource.close();
             plugin.getLogger().info("[Database] 데이터베이스 연결 종료");
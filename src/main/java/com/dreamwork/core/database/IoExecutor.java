@@ -0,0 +1,241 @@
+package com.dreamwork.core.database;
+
+import com.dreamwork.core.DreamWorkCore;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * 플러그인 공용 I/O 실행기 (가상 스레드)
+ * <p>
+ * DB 조회/기록과 파일 작업처럼 블로킹되는 작업을 작업마다 가상 스레드 하나에서 실행합니다.
+ * Bukkit 비동기 작업 스레드나 공용 ForkJoin 풀을 점유하지 않으며,
+ * 모든 작업이 이 클래스를 거치므로 실행 중/대기 중 작업 수를 한곳에서 확인할 수 있습니다.
+ * </p>
+ * <p>
+ * 동시에 실행되는 작업 수는 세마포어로 제한합니다. 커넥션 풀보다 많은 작업이 동시에 DB에 몰리지 않고,
+ * JDBC 드라이버의 {@code synchronized} 구간에서 가상 스레드가 캐리어 스레드에 고정(pinning)되더라도
+ * 고정되는 캐리어 수가 이 한도를 넘지 않습니다.
+ * </p>
+ * <p>
+ * 저장 큐({@link SaveQueue})와 저널({@link UserJournal})은 기록 순서를 보장해야 하므로 전용 스레드를 유지합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class IoExecutor {
+
+    /**
+     * 블로킹 작업 (예외 허용)
+     *
+     * @param <T> 결과 타입
+     */
+    @FunctionalInterface
+    public interface IoTask<T> {
+        T call() throws Exception;
+    }
+
+    /**
+     * 결과가 없는 블로킹 작업 (예외 허용)
+     */
+    @FunctionalInterface
+    public interface IoRunnable {
+        void run() throws Exception;
+    }
+
+    private final DreamWorkCore plugin;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    /** 메인 스레드 실행기 (플러그인이 비활성화되면 버림) */
+    private final Executor sync;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /** 작업 이름별 실행 중인 수 */
+    private final Map<String, AtomicInteger> runningByLabel = new ConcurrentHashMap<>();
+
+    public IoExecutor(DreamWorkCore plugin, int maxConcurrency) {
+        this.plugin = plugin;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.permits = new Semaphore(this.maxConcurrency, true);
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("DreamWork-IO-", 0).factory());
+        this.sync = command -> {
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, command);
+            }
+        };
+    }
+
+    // ==================== 실행 ====================
+
+    /**
+     * 블로킹 작업을 실행하고 결과를 Future로 반환합니다.
+     * 실패하면 로그를 남기고 Future를 예외로 완료합니다.
+     *
+     * @param label 작업 이름 (로그/지표용)
+     * @param task  작업
+     * @param <T>   결과 타입
+     * @return 결과 Future (I/O 스레드에서 완료됨 - 메인 스레드 처리는 {@link #sync()} 사용)
+     */
+    public <T> CompletableFuture<T> supply(String label, IoTask<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        waiting.incrementAndGet();
+        try {
+            executor.execute(() -> runGuarded(label, task, future));
+        } catch (RejectedExecutionException e) {
+            waiting.decrementAndGet();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 결과가 없는 블로킹 작업을 실행합니다.
+     *
+     * @param label 작업 이름 (로그/지표용)
+     * @param task  작업
+     * @return 완료 Future
+     */
+    public CompletableFuture<Void> run(String label, IoRunnable task) {
+        return supply(label, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 주기 작업을 등록합니다. 이전 실행이 끝나지 않았으면 이번 주기는 건너뜁니다.
+     * 플러그인이 비활성화되면 Bukkit이 타이머를 취소합니다.
+     *
+     * @param label  작업 이름
+     * @param delay  첫 실행까지 지연 (틱)
+     * @param period 주기 (틱)
+     * @param task   작업
+     * @return 타이머 (취소용)
+     */
+    public BukkitTask repeat(String label, long delay, long period, IoRunnable task) {
+        AtomicBoolean inFlight = new AtomicBoolean(false);
+        return Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (inFlight.compareAndSet(false, true)) {
+                run(label, task).whenComplete((ignored, error) -> inFlight.set(false));
+            }
+        }, delay, period);
+    }
+
+    private <T> void runGuarded(String label, IoTask<T> task, CompletableFuture<T> future) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            waiting.decrementAndGet();
+            future.cancel(false);
+            return;
+        }
+        waiting.decrementAndGet();
+        running.incrementAndGet();
+        AtomicInteger labelCount = runningByLabel.computeIfAbsent(label, k -> new AtomicInteger());
+        labelCount.incrementAndGet();
+        try {
+            future.complete(task.call());
+            completed.increment();
+        } catch (Throwable t) {
+            failed.increment();
+            if (!(t instanceof InterruptedException)) {
+                plugin.getLogger().log(Level.SEVERE, "[IO] 작업 실패: " + label, t);
+            }
+            future.completeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+        } finally {
+            labelCount.decrementAndGet();
+            running.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    // ==================== 메인 스레드 ====================
+
+    /**
+     * 메인 스레드에서 실행하는 Executor를 반환합니다.
+     * {@code future.thenAcceptAsync(result -> ..., io.sync())}처럼 결과를 메인 스레드로 넘길 때 사용합니다.
+     * 플러그인이 비활성화된 뒤에는 작업을 버립니다.
+     *
+     * @return 메인 스레드 Executor
+     */
+    public Executor sync() {
+        return sync;
+    }
+
+    /**
+     * 메인 스레드에서 작업을 실행합니다. (I/O 스레드에서 결과를 알릴 때)
+     *
+     * @param task 작업
+     */
+    public void runSync(Runnable task) {
+        sync.execute(task);
+    }
+
+    // ==================== 상태 ====================
+
+    /**
+     * 실행기 상태를 한 줄로 반환합니다.
+     *
+     * @return 상태 요약
+     */
+    public String describe() {
+        StringBuilder line = new StringBuilder("I/O: 실행 ")
+                .append(running.get()).append('/').append(maxConcurrency)
+                .append(", 대기 ").append(waiting.get())
+                .append(", 완료 ").append(completed.sum())
+                .append(", 실패 ").append(failed.sum());
+
+        StringBuilder active = new StringBuilder();
+        runningByLabel.forEach((label, count) -> {
+            int value = count.get();
+            if (value > 0) {
+                active.append(active.isEmpty() ? "" : ", ").append(label).append('=').append(value);
+            }
+        });
+        if (!active.isEmpty()) {
+            line.append(" (").append(active).append(')');
+        }
+        return line.toString();
+    }
+
+    /**
+     * 새 작업을 받지 않고, 실행 중인 작업을 제한 시간까지 기다린 뒤 남은 작업을 중단합니다.
+     * (플러그인 비활성화 시, DB 연결을 닫기 전에 호출)
+     *
+     * @param timeoutMillis 최대 대기 시간
+     */
+    public void shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                plugin.getLogger().warning("[IO] 종료 대기 시간 초과 - 남은 작업을 중단합니다. (" + describe() + ")");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
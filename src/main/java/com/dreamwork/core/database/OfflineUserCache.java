@@ -0,0 +1,139 @@
+package com.dreamwork.core.database;
+
+import com.dreamwork.core.DreamWorkCore;
+import com.dreamwork.core.database.repository.UserRepository;
+import com.dreamwork.core.model.UserData;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오프라인 유저 조회용 LRU 캐시
+ * <p>
+ * Vault, PlaceholderAPI 등 외부 플러그인이 접속하지 않은 플레이어를 조회할 때 사용합니다.
+ * 캐시에 없으면 비동기로 로드를 시작하고 즉시 null을 반환하며,
+ * 로드가 끝난 뒤의 조회부터는 메모리에서 응답합니다.
+ * </p>
+ * <p>
+ * 항목은 최대 개수를 넘으면 가장 오래 조회되지 않은 순으로, 만료 시간이 지나면 조회 시점에 제거됩니다.
+ * 캐시된 데이터는 읽기 전용이며 저장되지 않습니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class OfflineUserCache {
+
+    private final DreamWorkCore plugin;
+    private final UserRepository repository;
+    private final int maxSize;
+    private final long expireMillis;
+
+    /** 접근 순서 LinkedHashMap (lock으로 보호) */
+    private final LinkedHashMap<UUID, Entry> entries;
+
+    /** 로드 중인 UUID (중복 조회 방지) */
+    private final Set<UUID> loading = ConcurrentHashMap.newKeySet();
+
+    private record Entry(UserData data, long loadedAt) {
+    }
+
+    public OfflineUserCache(DreamWorkCore plugin, UserRepository repository, int maxSize, long expireMillis) {
+        this.plugin = plugin;
+        this.repository = repository;
+        this.maxSize = Math.max(1, maxSize);
+        this.expireMillis = expireMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > OfflineUserCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 유저 데이터를 반환합니다. 없거나 만료되었으면 비동기 로드를 시작합니다.
+     *
+     * @param uuid 플레이어 UUID
+     * @param name 플레이어 이름 (알 수 없으면 null)
+     * @return UserData 또는 null (로드 중)
+     */
+    public UserData get(UUID uuid, String name) {
+        synchronized (entries) {
+            Entry entry = entries.get(uuid);
+            if (entry != null) {
+                if (System.currentTimeMillis() - entry.loadedAt() <= expireMillis) {
+                    return entry.data();
+                }
+                entries.remove(uuid);
+            }
+        }
+
+        if (loading.add(uuid)) {
+            plugin.getIoExecutor().run("storage.offline-lookup", () -> load(uuid, name));
+        }
+        return null;
+    }
+
+    private void load(UUID uuid, String name) {
+        try {
+            UserData data = repository.load(uuid, name);
+            // 로드 도중 접속했다면 온라인 캐시가 우선이므로 등록하지 않음
+            if (loading.remove(uuid)) {
+                put(uuid, data);
+            }
+        } catch (SQLException e) {
+            loading.remove(uuid);
+            plugin.getLogger().warning("[Storage] 오프라인 유저 조회 실패: " + uuid + " (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * 유저 데이터를 캐시에 등록합니다. (퇴장 시 최신 데이터 재사용)
+     *
+     * @param uuid 플레이어 UUID
+     * @param data 유저 데이터
+     */
+    public void put(UUID uuid, UserData data) {
+        synchronized (entries) {
+            entries.put(uuid, new Entry(data, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * 캐시에서 제거합니다. (접속 시 온라인 캐시로 전환)
+     *
+     * @param uuid 플레이어 UUID
+     */
+    public void invalidate(UUID uuid) {
+        loading.remove(uuid);
+        synchronized (entries) {
+            entries.remove(uuid);
+        }
+    }
+
+    /**
+     * 모든 항목을 제거합니다. (일괄 가져오기/정리 후 저장소와 어긋난 데이터 폐기)
+     */
+    public void clear() {
+        loading.clear();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 캐시된 항목 수를 반환합니다.
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package com.dreamwork.core.database;
+
+import com.dreamwork.core.DreamWorkCore;
+import com.dreamwork.core.model.UserSnapshot;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * 쓰기 지연(Write-Behind) 저장 큐
+ * <p>
+ * 저장 요청을 즉시 DB에 쓰지 않고 큐에 모아 두었다가,
+ * 전용 작성 스레드 하나가 여러 유저를 한 트랜잭션으로 묶어 저장합니다.
+ * 같은 UUID에 대한 저장 요청이 큐에 남아 있으면 하나로 합쳐집니다.
+ * </p>
+ * <p>
+ * 작성 스레드가 하나뿐이므로 SQLite에서 쓰기 잠금 경합(SQLITE_BUSY)이 발생하지 않습니다.
+ * </p>
+ * <p>
+ * 연결 실패 같은 일시적 오류는 배치 전체를 다시 시도합니다. 그 밖의 오류는 배치를 반씩 나누어
+ * 다시 기록해 실패한 유저만 골라내므로, 스냅샷 하나가 다른 유저의 저장을 막지 않습니다.
+ * 같은 유저가 {@value #MAX_ATTEMPTS}회 연속 실패하면 보류하고, 그 유저의 다음 저장 요청에 합쳐 다시 시도합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class SaveQueue {
+
+    /**
+     * 배치 단위 저장 로직
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        /**
+         * 유저 목록을 하나의 트랜잭션으로 저장합니다.
+         *
+         * @param batch 저장할 스냅샷 목록 (UUID 중복 없음)
+         * @throws SQLException 저장 실패 시 (일시적 오류면 배치 전체, 그 밖에는 실패한 유저만 재시도됩니다)
+         */
+        void write(List<UserSnapshot> batch) throws SQLException;
+    }
+
+    /** 실패 후 재시도까지 대기 시간 (ms) */
+    private static final long RETRY_DELAY_MS = 2000L;
+
+    /** 보류하기 전까지 한 유저의 연속 저장 실패 허용 횟수 */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final DreamWorkCore plugin;
+    private final BatchWriter writer;
+
+    /** 한 트랜잭션에 묶을 최대 유저 수 */
+    private final int batchSize;
+
+    /** 저장 요청을 모으기 위해 대기하는 시간 (ms) */
+    private final long lingerMillis;
+
+    private final Object lock = new Object();
+
+    /** 저장 대기 중인 스냅샷 (UUID 기준으로 병합, 삽입 순서 유지) */
+    private final Map<UUID, UserSnapshot> pending = new LinkedHashMap<>();
+
+    /** 대기 중인 저장의 완료 신호 */
+    private final Map<UUID, CompletableFuture<Void>> pendingFutures = new HashMap<>();
+
+    /** 현재 작성 중인 저장의 완료 신호 */
+    private final Map<UUID, CompletableFuture<Void>> inFlightFutures = new HashMap<>();
+
+    /** 반복 실패로 보류된 스냅샷 (같은 유저의 다음 저장 요청에 합쳐짐) */
+    private final Map<UUID, UserSnapshot> parked = new HashMap<>();
+
+    /** 유저별 연속 저장 실패 횟수 (작성 스레드 전용) */
+    private final Map<UUID, Integer> failures = new HashMap<>();
+
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    /** 최근 배치 저장 소요 시간의 지수 이동 평균 (ms) */
+    private volatile double averageWriteMillis = 0.0;
+
+    /** 종료 중 저장 실패로 데이터가 유실되었는지 여부 */
+    private volatile boolean lost = false;
+
+    public SaveQueue(DreamWorkCore plugin, BatchWriter writer, int batchSize, long lingerMillis) {
+        this.plugin = plugin;
+        this.writer = writer;
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerMillis = Math.max(0L, lingerMillis);
+
+        this.writerThread = new Thread(this::runLoop, "DreamWork-SaveWriter");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * 유저 저장을 요청합니다.
+     * 이미 대기 중인 요청이나 보류된 스냅샷이 있으면 변경 구역을 합쳐 하나로 만듭니다.
+     *
+     * @param snapshot 저장할 스냅샷
+     */
+    public void enqueue(UserSnapshot snapshot) {
+        synchronized (lock) {
+            UUID uuid = snapshot.uuid();
+            UserSnapshot stale = parked.remove(uuid);
+            if (stale != null) {
+                snapshot = snapshot.mergeOlder(stale);
+            }
+            pending.merge(uuid, snapshot, (older, newer) -> newer.mergeOlder(older));
+            pendingFutures.computeIfAbsent(uuid, k -> new CompletableFuture<>());
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * 해당 유저의 대기/진행 중인 저장이 끝나면 완료되는 Future를 반환합니다.
+     * 대기 중인 저장이 없으면 이미 완료된 Future를 반환합니다.
+     *
+     * @param uuid 플레이어 UUID
+     * @return 저장 완료 신호
+     */
+    public CompletableFuture<Void> whenFlushed(UUID uuid) {
+        synchronized (lock) {
+            CompletableFuture<Void> future = pendingFutures.get(uuid);
+            if (future == null) {
+                future = inFlightFutures.get(uuid);
+            }
+            return future != null ? future : CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 지금까지 요청된 모든 저장이 끝나면 완료되는 Future를 반환합니다.
+     * 이후에 들어온 요청은 기다리지 않으며, 저장이 유실되었거나 보류된 유저가 있으면 예외로 완료됩니다.
+     *
+     * @return 저장 완료 신호
+     */
+    public CompletableFuture<Void> whenAllFlushed() {
+        synchronized (lock) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(pendingFutures.values());
+            futures.addAll(inFlightFutures.values());
+            if (!parked.isEmpty()) {
+                futures.add(CompletableFuture.failedFuture(
+                        new SQLException("저장 보류 중인 유저: " + parked.size() + "명")));
+            }
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        }
+    }
+
+    /**
+     * 대기 중인 저장 요청 수를 반환합니다.
+     *
+     * @return 큐 길이
+     */
+    public int size() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * 최근 배치 저장 소요 시간의 이동 평균을 반환합니다.
+     *
+     * @return 평균 저장 시간 (ms), 아직 저장한 적이 없으면 0
+     */
+    public double getAverageWriteMillis() {
+        return averageWriteMillis;
+    }
+
+    private void recordLatency(double millis) {
+        // 작성 스레드에서만 갱신
+        double previous = averageWriteMillis;
+        averageWriteMillis = previous == 0.0 ? millis : previous * 0.8 + millis * 0.2;
+    }
+
+    /**
+     * 남은 요청을 모두 저장한 뒤 작성 스레드를 종료합니다.
+     *
+     * @param timeoutMillis 최대 대기 시간 (ms)
+     * @return 남은 요청이 모두 저장되었으면 true (보류된 유저가 있으면 false)
+     */
+    public boolean shutdown(long timeoutMillis) {
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+        }
+
+        try {
+            writerThread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (writerThread.isAlive()) {
+            plugin.getLogger().warning("[SaveQueue] 종료 대기 시간 초과 - 저장되지 않은 유저: " + size() + "명");
+            return false;
+        }
+        synchronized (lock) {
+            if (!parked.isEmpty()) {
+                plugin.getLogger().severe("[SaveQueue] 저장 보류로 유실된 유저: " + parked.size() + "명 - 저널에서 복구됩니다.");
+                return false;
+            }
+        }
+        return !lost;
+    }
+
+    /**
+     * 작성 스레드가 종료되었는지 확인합니다. ({@link #shutdown(long)}이 시간 초과로 반환된 경우 false)
+     *
+     * @return 작성 스레드가 더 이상 기록하지 않으면 true
+     */
+    public boolean isStopped() {
+        return !writerThread.isAlive();
+    }
+
+    // ==================== 작성 스레드 ====================
+
+    private void runLoop() {
+        while (true) {
+            List<UserSnapshot> batch = takeBatch();
+            if (batch == null) {
+                return; // 종료 요청 + 큐 비어 있음
+            }
+
+            try {
+                write(batch);
+
+                if (plugin.isDebugMode()) {
+                    plugin.getLogger().info("[SaveQueue] " + batch.size() + "명 일괄 저장 완료 (대기: " + size() + ")");
+                }
+                continue;
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    plugin.getLogger().log(Level.SEVERE, "[SaveQueue] 일괄 저장 실패 (" + batch.size() + "명) - 재시도 예정", e);
+                    requeue(batch);
+                } else {
+                    plugin.getLogger().log(Level.SEVERE, "[SaveQueue] 일괄 저장 실패 (" + batch.size()
+                            + "명) - 실패한 유저를 분리합니다.", e);
+                    List<UserSnapshot> failed = new ArrayList<>();
+                    List<UserSnapshot> retry = new ArrayList<>();
+                    isolate(batch, failed, retry);
+                    requeue(retry);
+                    handleFailed(failed);
+                    if (failed.isEmpty() && retry.isEmpty()) {
+                        continue; // 나누어 기록하니 모두 성공
+                    }
+                }
+            }
+
+            if (!running) {
+                // 종료 중에는 무한 재시도하지 않음
+                failRemaining();
+                return;
+            }
+            sleepQuietly(RETRY_DELAY_MS);
+        }
+    }
+
+    private void write(List<UserSnapshot> batch) throws Exception {
+        long start = System.nanoTime();
+        writer.write(batch);
+        recordLatency((System.nanoTime() - start) / 1_000_000.0);
+        for (UserSnapshot snapshot : batch) {
+            failures.remove(snapshot.uuid());
+        }
+        complete(batch);
+    }
+
+    /**
+     * 실패한 배치를 반씩 나누어 다시 기록하고, 혼자서도 실패하는 스냅샷을 골라냅니다.
+     *
+     * @param batch  실패한 배치
+     * @param failed 혼자 기록해도 실패한 스냅샷 (실패 횟수에 포함)
+     * @param retry  일시적 오류로 판단을 미룬 스냅샷
+     */
+    private void isolate(List<UserSnapshot> batch, List<UserSnapshot> failed, List<UserSnapshot> retry) {
+        if (batch.size() == 1) {
+            failed.add(batch.get(0));
+            return;
+        }
+        int middle = batch.size() / 2;
+        for (List<UserSnapshot> half : List.of(batch.subList(0, middle), batch.subList(middle, batch.size()))) {
+            try {
+                write(half);
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    retry.addAll(half);
+                } else if (half.size() == 1) {
+                    plugin.getLogger().log(Level.SEVERE, "[SaveQueue] 유저 저장 실패: " + half.get(0).uuid(), e);
+                    failed.add(half.get(0));
+                } else {
+                    isolate(half, failed, retry);
+                }
+            }
+        }
+    }
+
+    /**
+     * 혼자서도 실패한 스냅샷을 다시 큐에 넣거나, 연속 실패 한도를 넘으면 보류합니다.
+     */
+    private void handleFailed(List<UserSnapshot> failed) {
+        List<UserSnapshot> retry = new ArrayList<>(failed.size());
+        for (UserSnapshot snapshot : failed) {
+            if (failures.merge(snapshot.uuid(), 1, Integer::sum) < MAX_ATTEMPTS) {
+                retry.add(snapshot);
+            } else {
+                failures.remove(snapshot.uuid());
+                park(snapshot);
+            }
+        }
+        requeue(retry);
+    }
+
+    /**
+     * 반복 실패한 스냅샷을 보류합니다. 그 사이 같은 유저의 새 요청이 들어왔다면 합쳐서 다시 시도합니다.
+     */
+    private void park(UserSnapshot snapshot) {
+        synchronized (lock) {
+            UUID uuid = snapshot.uuid();
+            if (pending.containsKey(uuid)) {
+                requeue(List.of(snapshot));
+                return;
+            }
+            parked.put(uuid, snapshot);
+            CompletableFuture<Void> future = inFlightFutures.remove(uuid);
+            if (future != null) {
+                future.completeExceptionally(new SQLException("저장 보류됨: " + uuid));
+            }
+            plugin.getLogger().severe("[SaveQueue] " + uuid + " 저장이 " + MAX_ATTEMPTS
+                    + "회 연속 실패하여 보류합니다. 다음 저장 요청 시 함께 다시 시도합니다.");
+        }
+    }
+
+    private static boolean isTransient(Exception e) {
+        return e instanceof SQLTransientException || e instanceof SQLRecoverableException;
+    }
+
+    /**
+     * 다음 배치를 꺼냅니다. 큐가 빌 때까지 대기하며,
+     * 종료 요청 후 큐가 비어 있으면 null을 반환합니다.
+     */
+    private List<UserSnapshot> takeBatch() {
+        synchronized (lock) {
+            while (pending.isEmpty()) {
+                if (!running) {
+                    return null;
+                }
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+
+            // 짧게 대기하여 같은 틱에 몰린 요청을 한 번에 모음
+            if (running && lingerMillis > 0 && pending.size() < batchSize) {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                long remaining;
+                while (running && pending.size() < batchSize
+                        && (remaining = deadline - System.nanoTime()) > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+
+            List<UserSnapshot> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            Iterator<Map.Entry<UUID, UserSnapshot>> it = pending.entrySet().iterator();
+            while (it.hasNext() && batch.size() < batchSize) {
+                Map.Entry<UUID, UserSnapshot> entry = it.next();
+                it.remove();
+                batch.add(entry.getValue());
+
+                CompletableFuture<Void> future = pendingFutures.remove(entry.getKey());
+                if (future != null) {
+                    inFlightFutures.put(entry.getKey(), future);
+                }
+            }
+            return batch;
+        }
+    }
+
+    private void complete(List<UserSnapshot> batch) {
+        synchronized (lock) {
+            for (UserSnapshot snapshot : batch) {
+                CompletableFuture<Void> future = inFlightFutures.remove(snapshot.uuid());
+                if (future != null) {
+                    future.complete(null);
+                }
+            }
+        }
+    }
+
+    /**
+     * 실패한 배치를 큐에 되돌립니다. 그 사이 새 요청이 들어왔다면 새 요청의 값을 우선하여 합칩니다.
+     */
+    private void requeue(List<UserSnapshot> batch) {
+        synchronized (lock) {
+            for (UserSnapshot snapshot : batch) {
+                UUID uuid = snapshot.uuid();
+                pending.merge(uuid, snapshot, (newer, failed) -> newer.mergeOlder(failed));
+
+                CompletableFuture<Void> old = inFlightFutures.remove(uuid);
+                if (old == null) {
+                    continue;
+                }
+                CompletableFuture<Void> newer = pendingFutures.get(uuid);
+                if (newer == null) {
+                    pendingFutures.put(uuid, old);
+                } else {
+                    newer.whenComplete((v, ex) -> {
+                        if (ex != null) {
+                            old.completeExceptionally(ex);
+                        } else {
+                            old.complete(null);
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    private void failRemaining() {
+        synchronized (lock) {
+            plugin.getLogger().severe("[SaveQueue] 종료 중 저장 실패 - 유실된 유저: " + pending.size() + "명");
+            lost = true;
+            pending.clear();
+            SQLException cause = new SQLException("종료 중 저장 실패");
+            pendingFutures.values().forEach(f -> f.completeExceptionally(cause));
+            pendingFutures.clear();
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.dreamwork.core.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연결별 PreparedStatement 캐시
+ * <p>
+ * 저장/로드처럼 같은 SQL을 반복 실행하는 경로에서, 연결을 빌릴 때마다 구문을 다시 준비하지 않도록
+ * 풀의 실제 연결마다 준비된 구문을 보관합니다. SQLite 드라이버에는 MySQL의
+ * {@code cachePrepStmts} 같은 드라이버 수준 캐시가 없으므로 이 캐시가 그 역할을 합니다.
+ * </p>
+ * <p>
+ * HikariCP는 프록시 연결을 반환할 때 그 연결로 만든 구문을 모두 닫으므로,
+ * 구문은 프록시가 감싼 실제 연결에서 준비합니다. 같은 실제 연결은 한 번에 한 스레드만 빌리므로
+ * 연결별 구문 맵은 잠금 없이 사용합니다. 풀이 연결을 폐기하면 그 구문도 함께 닫히며,
+ * 다음에 새 연결이 등록될 때 목록에서 정리됩니다.
+ * </p>
+ * <p>
+ * 반환된 구문은 닫지 마세요. 사용 후 {@link #release(PreparedStatement)}로 남은 배치를 비웁니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class StatementCache {
+
+    private final StorageMetrics metrics;
+
+    /** 실제 연결 → (SQL → 준비된 구문) */
+    private final Map<Connection, Map<String, PreparedStatement>> statements = new ConcurrentHashMap<>();
+
+    public StatementCache(StorageMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 준비된 구문을 반환합니다. 이 연결에서 처음 쓰는 SQL이면 새로 준비합니다.
+     *
+     * @param conn 풀에서 빌린 연결 (사용하는 동안 다른 스레드와 공유하지 않음)
+     * @param sql  SQL 문
+     * @return 매개변수가 비워진 구문 (닫지 말 것)
+     * @throws SQLException 준비 실패 시
+     */
+    public PreparedStatement prepare(Connection conn, String sql) throws SQLException {
+        Connection physical = conn.unwrap(Connection.class);
+        Map<String, PreparedStatement> cached = statements.get(physical);
+        if (cached == null) {
+            evictClosed();
+            cached = new HashMap<>();
+            statements.put(physical, cached);
+        }
+
+        PreparedStatement stmt = cached.get(sql);
+        if (stmt != null && !stmt.isClosed()) {
+            stmt.clearParameters();
+            metrics.recordStatement(true);
+            return stmt;
+        }
+
+        stmt = physical.prepareStatement(sql);
+        cached.put(sql, stmt);
+        metrics.recordStatement(false);
+        return stmt;
+    }
+
+    /**
+     * 실행하지 못한 배치를 비웁니다. (실패한 트랜잭션의 항목이 다음 사용에 섞이지 않도록)
+     *
+     * @param stmt {@link #prepare}로 얻은 구문
+     */
+    public void release(PreparedStatement stmt) {
+        try {
+            stmt.clearBatch();
+        } catch (SQLException ignored) {
+            // 연결이 끊긴 경우 - 다음 prepare에서 다시 준비됨
+        }
+    }
+
+    /**
+     * 풀이 폐기한 연결의 구문 목록을 제거합니다.
+     */
+    private void evictClosed() {
+        statements.keySet().removeIf(physical -> {
+            try {
+                return physical.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        });
+    }
+
+    /**
+     * 모든 구문을 닫습니다. (풀 종료 전 호출)
+     */
+    public void close() {
+        for (Map<String, PreparedStatement> cached : statements.values()) {
+            for (PreparedStatement stmt : cached.values()) {
+                try {
+                    stmt.close();
+                } catch (SQLException ignored) {
+                }
+            }
+        }
+        statements.clear();
+    }
+}
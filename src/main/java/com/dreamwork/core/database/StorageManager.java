@@ -1,54 +1,342 @@
 package com.dreamwork.core.database;
 
 import com.dreamwork.core.DreamWorkCore;
-import com.dreamwork.core.job.JobInfo;
-import com.dreamwork.core.job.JobType;
+import com.dreamwork.core.database.repository.UserRepository;
 import com.dreamwork.core.model.UserData;
-import com.dreamwork.core.quest.QuestProgress;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import com.dreamwork.core.model.UserSection;
+import com.dreamwork.core.model.UserSnapshot;
 import org.bukkit.Bukkit;
 
-import java.lang.reflect.Type;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.sql.SQLException;
-import java.time.LocalDate;
-import java.util.EnumMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 
 /**
  * 저장소 관리자
  * <p>
- * 플레이어 데이터를 SQLite 데이터베이스에 저장하고 로드합니다.
+ * 플레이어 데이터를 {@link UserRepository}에 저장하고 로드합니다.
  * 비동기 작업을 통해 서버 성능에 영향을 최소화합니다.
  * </p>
+ * <p>
+ * 저장은 {@link SaveQueue}를 통해 전용 스레드에서 일괄 처리됩니다.
+ * 자동 저장 사이의 변경 사항은 {@link UserJournal}에 기록되어 서버가 비정상 종료되어도
+ * 다음 시작 시 복구됩니다.
+ * </p>
  * 
  * @author DreamWork Team
  * @since 1.0.0
  */
 public class StorageManager {
 
+    /** 로드 전 이전 저장 완료를 기다리는 최대 시간 (ms) */
+    private static final long PENDING_SAVE_WAIT_MS = 5000L;
+
+    /** 사전 로드 후 접속이 완료되지 않은 데이터를 버리기까지의 시간 (ms) */
+    private static final long PREFETCH_EXPIRE_MS = 60_000L;
+
+    /** 저널 복구 시 한 번에 저장하는 유저 수 */
+    private static final int RECOVERY_BATCH_SIZE = 100;
+
+    /** 내보내기 파일 이름의 시각 형식 */
+    private static final DateTimeFormatter TRANSFER_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /** 저널에 기록하는 구역 (탐험 청크는 양이 많아 자동 저장에만 맡김) */
+    private static final int JOURNAL_SECTIONS = UserSection.ALL_MASK & ~UserSection.EXPLORED_CHUNKS.bit();
+
     private final DreamWorkCore plugin;
     private final DatabaseManager dbManager;
-    private final Gson gson;
+    private final IoExecutor io;
+    private final UserRepository repository;
+    private final StorageMetrics metrics;
+    private final SaveQueue saveQueue;
+
+    /** 접속하지 않은 플레이어 조회용 캐시 (Vault, PlaceholderAPI) */
+    private final OfflineUserCache offlineCache;
+
+    /** 일괄 내보내기/가져오기/정리 도구 */
+    private final UserDataTransfer dataTransfer;
+
+    /** 변경 저널 (비활성화 시 null) */
+    private final UserJournal journal;
 
     /**
      * 유저 데이터 캐시 (메모리)
      */
     private final Map<UUID, UserData> userCache = new ConcurrentHashMap<>();
 
+    /**
+     * 사전 로그인 단계에서 미리 읽어 둔 유저 데이터 (접속 완료 시 캐시로 이동)
+     */
+    private final Map<UUID, PrefetchedUser> prefetched = new ConcurrentHashMap<>();
+
+    private record PrefetchedUser(UserData data, long loadedAt) {
+    }
+
     public StorageManager(DreamWorkCore plugin, DatabaseManager dbManager) {
         this.plugin = plugin;
         this.dbManager = dbManager;
-        this.gson = new GsonBuilder()
-                .enableComplexMapKeySerialization()
-                .create();
+        this.io = plugin.getIoExecutor();
+        this.repository = dbManager.getUserRepository();
+        this.metrics = dbManager.getMetrics();
+        this.saveQueue = new SaveQueue(plugin, this::writeBatch,
+                plugin.getConfig().getInt("database.save-queue.batch-size", 100),
+                plugin.getConfig().getLong("database.save-queue.linger-ms", 200L));
+        this.offlineCache = new OfflineUserCache(plugin, repository,
+                plugin.getConfig().getInt("database.offline-cache.max-size", 1000),
+                plugin.getConfig().getLong("database.offline-cache.expire-seconds", 300L) * 1000L);
+        this.dataTransfer = new UserDataTransfer(repository,
+                plugin.getConfig().getInt("database.transfer.page-size", 500));
+        this.journal = plugin.getConfig().getBoolean("journal.enabled", true)
+                ? new UserJournal(plugin, new File(plugin.getDataFolder(), "journal"),
+                        plugin.getConfig().getLong("journal.fsync-interval-ms", 1000L))
+                : null;
+
+        if (journal != null) {
+            replayJournal();
+            journal.start();
+            long interval = Math.max(1L, plugin.getConfig().getLong("journal.interval-ticks", 20L));
+            Bukkit.getScheduler().runTaskTimer(plugin, this::writeJournal, interval, interval);
+        }
+
+        long summaryMinutes = plugin.getConfig().getLong("database.metrics.log-interval-minutes", 10L);
+        if (summaryMinutes > 0) {
+            long period = summaryMinutes * 60L * 20L;
+            io.repeat("storage.metrics", period, period, this::logMetrics);
+        }
+    }
+
+    // ==================== 지표 ====================
+
+    /**
+     * 저장 큐의 배치 기록 (작성 스레드에서 호출) - 소요 시간과 실패를 지표에 남깁니다.
+     */
+    private void writeBatch(List<UserSnapshot> batch) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            repository.saveAll(batch);
+        } catch (SQLException | RuntimeException e) {
+            metrics.recordBatchFailure();
+            throw e;
+        }
+        metrics.recordBatchWrite(System.nanoTime() - start, batch.size());
+    }
+
+    /**
+     * 현재 저장소 지표 요약을 반환합니다.
+     * 
+     * @return 요약 줄 목록
+     */
+    public List<String> describeMetrics() {
+        List<String> lines = metrics.summary(saveQueue.size(), dbManager.describePools());
+        lines.add(io.describe());
+        return lines;
+    }
+
+    private void logMetrics() {
+        for (String line : describeMetrics()) {
+            plugin.getLogger().info("[Storage] " + line);
+        }
+    }
+
+    // ==================== 일괄 데이터 도구 ====================
+
+    /**
+     * 모든 유저 데이터를 파일로 내보냅니다. 접속 중인 유저의 변경 사항을 먼저 저장한 뒤 비동기로 실행합니다.
+     *
+     * @param format 파일 형식
+     * @param reply  결과 메시지 수신 (메인 스레드에서 호출)
+     */
+    public void exportUsers(UserDataTransfer.Format format, Consumer<String> reply) {
+        if (dataTransfer.isRunning()) {
+            reply.accept("&c다른 데이터 작업이 실행 중입니다.");
+            return;
+        }
+        for (UserData user : userCache.values()) {
+            if (user.isDirty()) {
+                saveUserAsync(user);
+            }
+        }
+
+        File file = new File(getTransferDirectory(), "dw_users-" + TRANSFER_TIMESTAMP.format(LocalDateTime.now())
+                + format.getExtension());
+        saveQueue.whenAllFlushed().whenComplete((ignored, error) -> runTransfer(reply, progress -> {
+            int count = dataTransfer.exportAll(file, format, progress);
+            return "&a" + count + "명을 내보냈습니다: " + file.getName();
+        }));
+    }
+
+    /**
+     * 내보낸 파일의 유저 데이터를 저장소에 기록합니다. 접속 중인 유저는 건너뜁니다.
+     *
+     * @param fileName 내보내기 폴더 안의 파일 이름
+     * @param reply    결과 메시지 수신 (메인 스레드에서 호출)
+     */
+    public void importUsers(String fileName, Consumer<String> reply) {
+        File file = new File(getTransferDirectory(), new File(fileName).getName());
+        if (!file.isFile()) {
+            reply.accept("&c파일을 찾을 수 없습니다: " + file.getName());
+            return;
+        }
+        Set<UUID> online = Set.copyOf(userCache.keySet());
+        runTransfer(reply, progress -> {
+            int[] result = dataTransfer.importAll(file, online, progress);
+            // 가져온 데이터와 다른 오프라인 조회 결과가 남지 않도록 비움
+            offlineCache.clear();
+            return "&a" + result[0] + "명을 가져왔습니다. (접속 중이라 건너뜀: " + result[1] + "명)";
+        });
+    }
+
+    /**
+     * 저장소를 정리합니다. 구버전 형식의 행을 다시 기록하고, 지정한 기간 동안 접속하지 않은 유저를 삭제합니다.
+     *
+     * @param pruneDays 이 일수 동안 저장 기록이 없는 유저 삭제 (0이면 삭제하지 않음)
+     * @param reply     결과 메시지 수신 (메인 스레드에서 호출)
+     */
+    public void compactUsers(int pruneDays, Consumer<String> reply) {
+        long pruneBefore = pruneDays > 0 ? System.currentTimeMillis() - pruneDays * 86_400_000L : 0L;
+        Set<UUID> online = Set.copyOf(userCache.keySet());
+        runTransfer(reply, progress -> {
+            int[] result = dataTransfer.compact(pruneBefore, online, progress);
+            if (result[1] > 0) {
+                offlineCache.clear();
+            }
+            return "&a정리 완료: 다시 기록 " + result[0] + "명, 삭제 " + result[1] + "명";
+        });
+    }
+
+    private File getTransferDirectory() {
+        File directory = new File(plugin.getDataFolder(), "exports");
+        if (!directory.exists()) {
+            directory.mkdirs();
+        }
+        return directory;
+    }
+
+    /**
+     * 데이터 작업을 비동기로 실행하고 진행/결과 메시지를 메인 스레드로 전달합니다.
+     */
+    private void runTransfer(Consumer<String> reply, TransferTask task) {
+        Consumer<String> relay = message -> io.runSync(() -> reply.accept(message));
+        io.run("storage.transfer", () -> {
+            try {
+                relay.accept(task.run(message -> relay.accept("&7" + message)));
+            } catch (IllegalStateException e) {
+                relay.accept("&c다른 데이터 작업이 실행 중입니다.");
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "[Storage] 데이터 작업 실패", e);
+                relay.accept("&c데이터 작업 실패: " + e.getMessage());
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface TransferTask {
+        String run(Consumer<String> progress) throws Exception;
+    }
+
+    // ==================== 저널 ====================
+
+    /**
+     * 지난 실행에서 DB에 반영되지 못한 저널 레코드를 저장소에 적용합니다. (서버 시작 시)
+     */
+    private void replayJournal() {
+        Map<UUID, UserSnapshot> pending = journal.recover();
+        if (pending.isEmpty()) {
+            journal.finishRecovery(true);
+            return;
+        }
+
+        plugin.getLogger().warning("[Journal] 비정상 종료 감지 - " + pending.size() + "명의 변경 사항을 복구합니다.");
+        try {
+            List<UserSnapshot> batch = new ArrayList<>(RECOVERY_BATCH_SIZE);
+            for (UserSnapshot record : pending.values()) {
+                UserData user = repository.load(record.uuid(), record.name());
+                record.applyTo(user);
+                for (UserSection section : UserSection.values()) {
+                    if (record.has(section)) {
+                        user.markDirty(section);
+                    }
+                }
+                batch.add(UserSnapshot.of(user));
+                if (batch.size() >= RECOVERY_BATCH_SIZE) {
+                    repository.saveAll(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                repository.saveAll(batch);
+            }
+            journal.finishRecovery(true);
+            plugin.getLogger().info("[Journal] 복구 완료: " + pending.size() + "명");
+        } catch (SQLException e) {
+            plugin.getLogger().severe("[Journal] 복구 실패: " + e.getMessage());
+            journal.finishRecovery(false);
+        }
+    }
+
+    /**
+     * 마지막 기록 이후 변경된 유저의 구역 값을 저널에 추가합니다. (메인 스레드에서 호출)
+     */
+    public void writeJournal() {
+        if (journal == null) {
+            return;
+        }
+        List<UserSnapshot> records = new ArrayList<>();
+        for (UserData user : userCache.values()) {
+            int mask = user.takeJournalMask() & JOURNAL_SECTIONS;
+            if (mask != 0) {
+                records.add(UserSnapshot.of(user, mask, false));
+            }
+        }
+        journal.append(records);
+    }
+
+    /**
+     * 자동 저장 직전에 저널을 새 세그먼트로 넘깁니다. (메인 스레드에서 호출)
+     * <p>
+     * 반환된 번호는 {@link #truncateJournalAfterFlush(CompletableFuture)}에 전달해
+     * 이번 자동 저장이 DB에 반영된 뒤 이전 세그먼트를 지우는 데 사용합니다.
+     * </p>
+     *
+     * @return 새 세그먼트 번호 (저널 비활성화 시 null)
+     */
+    public CompletableFuture<Long> rotateJournal() {
+        if (journal == null) {
+            return null;
+        }
+        writeJournal();
+        return journal.rotate();
+    }
+
+    /**
+     * 현재 저장 큐에 등록된 저장이 모두 끝나면 회전 이전의 저널 세그먼트를 삭제합니다.
+     *
+     * @param rotation {@link #rotateJournal()}의 반환값
+     */
+    public void truncateJournalAfterFlush(CompletableFuture<Long> rotation) {
+        if (journal == null || rotation == null) {
+            return;
+        }
+        saveQueue.whenAllFlushed()
+                .thenCombine(rotation, (ignored, segment) -> segment)
+                .whenComplete((segment, error) -> {
+                    if (error == null) {
+                        journal.truncateBefore(segment);
+                    }
+                });
     }
 
     /**
@@ -61,18 +349,68 @@ public class StorageManager {
         return userCache.get(uuid);
     }
 
+    /**
+     * 접속 여부와 관계없이 유저 데이터를 가져옵니다. (외부 플러그인 조회용, 읽기 전용)
+     * <p>
+     * 온라인 캐시에 없으면 오프라인 캐시를 확인하고, 그래도 없으면 비동기 로드를 시작한 뒤 null을 반환합니다.
+     * 오프라인 데이터는 수정해도 저장되지 않습니다.
+     * </p>
+     * 
+     * @param uuid 플레이어 UUID
+     * @param name 플레이어 이름 (알 수 없으면 null)
+     * @return UserData 또는 null (로드 중)
+     */
+    public UserData lookupUserData(UUID uuid, String name) {
+        UserData online = userCache.get(uuid);
+        return online != null ? online : offlineCache.get(uuid, name);
+    }
+
     /**
      * 유저 데이터를 캐시에서 제거합니다.
+     * 제거된 데이터는 오프라인 조회에 재사용할 수 있도록 오프라인 캐시로 옮깁니다.
+     * <p>
+     * 저널에 아직 기록하지 않은 구역은 여기서 마지막 레코드로 남깁니다.
+     * 현재 세그먼트에는 이 유저의 이전 값이 남아 있으므로, 최신 값을 뒤에 기록하지 않으면
+     * 복구 시 종료 전에 저장된 값을 이전 값으로 덮어쓰게 됩니다.
+     * </p>
      * 
      * @param uuid 플레이어 UUID
      */
     public void unloadUser(UUID uuid) {
-        userCache.remove(uuid);
+        UserData removed = userCache.remove(uuid);
+        if (removed != null) {
+            journalPending(removed);
+            offlineCache.put(uuid, removed);
+        }
+    }
+
+    /**
+     * 저널에 아직 기록하지 않은 구역을 레코드로 남깁니다. (메인 스레드에서 호출)
+     * <p>
+     * DB에 값을 쓰기 전에 호출해야 합니다. 그렇지 않으면 세그먼트의 마지막 레코드가 DB보다 오래된 값이 되어,
+     * 다음 저널 기록 전에 서버가 종료되면 복구가 저장된 값을 이전 값으로 되돌립니다.
+     * </p>
+     *
+     * @param user 유저 데이터
+     */
+    private void journalPending(UserData user) {
+        if (journal == null) {
+            return;
+        }
+        int mask = user.takeJournalMask() & JOURNAL_SECTIONS;
+        if (mask != 0) {
+            journal.append(List.of(UserSnapshot.of(user, mask, false)));
+        }
     }
 
     /**
-     * 유저 데이터를 비동기로 저장합니다.
-     * 더티 플래그가 설정된 경우에만 실제 저장을 수행합니다.
+     * 유저 데이터를 비동기로 저장합니다. (메인 스레드에서 호출)
+     * <p>
+     * 더티 플래그가 설정된 경우에만 변경된 구역의 스냅샷을 만들어 저장 큐에 등록합니다.
+     * 직렬화는 저장 스레드에서 스냅샷을 대상으로 수행되므로 원본과 경합하지 않으며,
+     * 같은 유저의 중복 요청은 큐에서 최신 스냅샷 하나로 합쳐집니다.
+     * 저널에 기록하지 않은 변경은 큐에 넣기 전에 먼저 저널에 남깁니다. ({@link #journalPending(UserData)})
+     * </p>
      * 
      * @param user 저장할 유저 데이터
      */
@@ -80,305 +418,265 @@ public class StorageManager {
         if (!user.isDirty()) {
             return;
         }
+        journalPending(user);
+        UserSnapshot snapshot = UserSnapshot.of(user);
+        user.clearDirty();
+        user.setPersisted(true);
+        saveQueue.enqueue(snapshot);
+        metrics.recordSaveRequest();
+    }
 
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            try (Connection conn = dbManager.getConnection()) {
-                String sql = """
-                        REPLACE INTO dw_users (
-                            uuid, name, job_data,
-                            str, dex, con, intel, luk, stat_points,
-                            current_mana, last_daily_reset, quest_data,
-                            phase1_data, money
-                        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-                        """;
-
-                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-                    pstmt.setString(1, user.getUuid().toString());
-                    pstmt.setString(2, user.getName());
-                    pstmt.setString(3, serializeJobData(user.getJobs()));
-                    pstmt.setInt(4, user.getStr());
-                    pstmt.setInt(5, user.getDex());
-                    pstmt.setInt(6, user.getCon());
-                    pstmt.setInt(7, user.getIntel());
-                    pstmt.setInt(8, user.getLuk());
-                    pstmt.setInt(9, user.getStatPoints());
-                    pstmt.setDouble(10, user.getCurrentMana());
-                    pstmt.setString(11, user.getLastDailyReset() != null
-                            ? user.getLastDailyReset().toString()
-                            : null);
-                    pstmt.setString(12, gson.toJson(user.getQuestProgresses()));
-                    pstmt.setString(13, serializePhase1Data(user));
-                    pstmt.setDouble(14, user.getBalance());
-
-                    pstmt.executeUpdate();
-
-                    // dw_jobs 테이블 업데이트 (랭킹용)
-                    String jobSql = "REPLACE INTO dw_jobs (uuid, job_id, level, exp) VALUES (?, ?, ?, ?)";
-                    try (PreparedStatement jobStmt = conn.prepareStatement(jobSql)) {
-                        for (Map.Entry<JobType, JobInfo> entry : user.getJobs().entrySet()) {
-                            JobInfo info = entry.getValue();
-                            jobStmt.setString(1, user.getUuid().toString());
-                            jobStmt.setString(2, entry.getKey().getConfigKey());
-                            jobStmt.setInt(3, info.getLevel());
-                            jobStmt.setDouble(4, info.getCurrentExp());
-                            jobStmt.addBatch();
-                        }
-                        jobStmt.executeBatch();
-                    }
+    /**
+     * 남은 데이터를 모두 저장하고 저장 스레드를 종료합니다. (플러그인 비활성화 시 메인 스레드에서 호출)
+     * <p>
+     * 저장 큐를 먼저 비운 뒤, 캐시에 남은 변경 사항을 한 트랜잭션으로 일괄 저장합니다.
+     * 전체 과정은 {@code database.shutdown-budget-ms} 안에서 끝나며,
+     * 시간 안에 저장하지 못한 변경은 저널에 남아 다음 시작 시 복구됩니다.
+     * </p>
+     * <p>
+     * 큐의 작성 스레드가 시간 안에 끝나지 않으면 일괄 저장을 건너뜁니다.
+     * 큐에 남은 이전 스냅샷이 일괄 저장보다 늦게 기록되어 최신 값을 덮어쓸 수 있기 때문입니다.
+     * </p>
+     */
+    public void shutdown() {
+        long budget = plugin.getConfig().getLong("database.shutdown-budget-ms", 10000L);
+        long deadline = System.currentTimeMillis() + budget;
+
+        writeJournal();
+        boolean clean = saveQueue.shutdown(budget);
+        if (saveQueue.isStopped()) {
+            clean &= flushAll(deadline - System.currentTimeMillis());
+        } else {
+            plugin.getLogger().severe("[Storage] 저장 큐가 아직 기록 중이라 종료 저장을 건너뜁니다 - 남은 변경 사항은 저널에서 복구됩니다.");
+            clean = false;
+        }
 
-                    // 저장 완료 후 더티 플래그 해제
-                    user.clearDirty();
+        if (journal != null) {
+            journal.close(clean);
+        }
+    }
 
-                    if (plugin.isDebugMode()) {
-                        plugin.getLogger().info("[Storage] 유저 데이터 저장 완료: " + user.getName());
-                    }
-                }
-            } catch (SQLException e) {
-                plugin.getLogger().severe("유저 데이터 저장 실패: " + user.getName());
-                e.printStackTrace();
+    /**
+     * 캐시된 모든 유저의 변경 사항을 한 트랜잭션으로 동기 저장합니다.
+     * <p>
+     * 기록은 별도 스레드에서 수행해 제한 시간을 넘기면 기다리지 않고 반환합니다.
+     * 이때 남은 트랜잭션은 이후 연결 풀이 닫히면서 중단되며, 저널이 유지되므로 다음 시작 시 복구됩니다.
+     * (저장 큐가 멈춘 뒤에만 호출되므로 이 기록과 경합하는 다른 기록은 없음)
+     * </p>
+     *
+     * @param timeoutMillis 최대 대기 시간 (ms)
+     * @return 남은 변경 사항이 모두 저장되었으면 true
+     */
+    private boolean flushAll(long timeoutMillis) {
+        long start = System.currentTimeMillis();
+        List<UserData> dirty = userCache.values().stream().filter(UserData::isDirty).toList();
+        if (dirty.isEmpty()) {
+            return true;
+        }
+
+        List<UserSnapshot> snapshots = dirty.stream().map(UserSnapshot::of).toList();
+
+        CompletableFuture<Void> write = new CompletableFuture<>();
+        Thread writer = new Thread(() -> {
+            try {
+                repository.saveAll(snapshots);
+                write.complete(null);
+            } catch (Throwable t) {
+                write.completeExceptionally(t);
             }
+        }, "DreamWork-ShutdownFlush");
+        writer.setDaemon(true);
+        writer.start();
+
+        try {
+            write.get(Math.max(0L, timeoutMillis), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            plugin.getLogger().severe("[Storage] 종료 저장 시간 초과 (" + timeoutMillis + "ms) - "
+                    + dirty.size() + "명의 변경 사항은 저널에서 복구됩니다.");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            plugin.getLogger().severe("[Storage] 종료 저장 실패: " + e.getCause().getMessage());
+            return false;
+        }
+
+        dirty.forEach(user -> {
+            user.clearDirty();
+            user.setPersisted(true);
         });
+        plugin.getLogger().info("[Storage] 종료 저장 완료: " + dirty.size() + "명 ("
+                + (System.currentTimeMillis() - start) + "ms)");
+        return true;
+    }
+
+    /**
+     * 저장 큐를 반환합니다.
+     * 
+     * @return 저장 큐
+     */
+    public SaveQueue getSaveQueue() {
+        return saveQueue;
     }
 
     /**
      * 유저 데이터를 비동기로 로드합니다.
+     * <p>
+     * 캐시나 사전 로그인 단계에서 미리 읽어 둔 데이터가 있으면 즉시 완료된 Future를 반환합니다.
+     * </p>
      * 
      * @param uuid 플레이어 UUID
      * @param name 플레이어 이름
      * @return CompletableFuture with UserData
      */
     public CompletableFuture<UserData> loadUserAsync(UUID uuid, String name) {
-        CompletableFuture<UserData> future = new CompletableFuture<>();
-
         // 캐시에 있으면 즉시 반환
-        if (userCache.containsKey(uuid)) {
-            future.complete(userCache.get(uuid));
-            return future;
+        UserData cached = userCache.get(uuid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
 
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            try (Connection conn = dbManager.getConnection()) {
-                String sql = "SELECT * FROM dw_users WHERE uuid = ?";
-                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-                    pstmt.setString(1, uuid.toString());
-                    ResultSet rs = pstmt.executeQuery();
-
-                    UserData user = new UserData(uuid, name);
-
-                    if (rs.next()) {
-                        // 직업 데이터 로드
-                        String jobData = rs.getString("job_data");
-                        if (jobData != null && !jobData.isEmpty()) {
-                            Map<JobType, JobInfo> jobs = deserializeJobData(jobData);
-                            if (jobs != null) {
-                                user.setJobs(jobs);
-                            }
-                        } else {
-                            migrateOldJobData(rs, user);
-                        }
-
-                        // 스탯 데이터 로드
-                        user.setStr(rs.getInt("str"));
-                        user.setStr(rs.getInt("str"));
-                        user.setDex(rs.getInt("dex"));
-                        user.setCon(rs.getInt("con"));
-                        user.setIntel(rs.getInt("intel"));
-                        user.setLuk(rs.getInt("luk"));
-                        user.setStatPoints(rs.getInt("stat_points"));
-
-                        // 마나 로드
-                        try {
-                            user.setCurrentMana(rs.getDouble("current_mana"));
-                        } catch (Exception ignored) {
-                            user.setCurrentMana(100.0);
-                        }
-
-                        // 돈(Money) 로드
-                        try {
-                            user.setMoney(rs.getDouble("money"));
-                        } catch (Exception ignored) {
-                        }
-
-                        // 일일 리셋 날짜
-                        String lastReset = rs.getString("last_daily_reset");
-                        if (lastReset != null) {
-                            user.setLastDailyReset(LocalDate.parse(lastReset));
-                        }
-
-                        // 퀘스트 데이터 로드
-                        String questJson = rs.getString("quest_data");
-                        if (questJson != null && !questJson.isEmpty()) {
-                            Type type = new TypeToken<Map<String, QuestProgress>>() {
-                            }.getType();
-                            Map<String, QuestProgress> quests = gson.fromJson(questJson, type);
-                            if (quests != null) {
-                                user.setQuestProgresses(quests);
-                            }
-                        }
-
-                        // Phase 1 데이터 로드
-                        try {
-                            String phase1Json = rs.getString("phase1_data");
-                            if (phase1Json != null && !phase1Json.isEmpty()) {
-                                deserializePhase1Data(phase1Json, user);
-                            }
-                        } catch (Exception e) {
-                        }
-                    }
-
-                    // 캐시 등록
-                    userCache.put(uuid, user);
-                    future.complete(user);
+        UserData ready = claimPrefetched(uuid);
+        if (ready != null) {
+            return CompletableFuture.completedFuture(ready);
+        }
 
-                    if (plugin.isDebugMode()) {
-                        plugin.getLogger().info("[Storage] 유저 데이터 로드 완료: " + name);
-                    }
-                }
+        // 그 밖의 예외(손상된 데이터, 종료 후 요청 등)는 반환된 Future를 예외로 완료
+        return io.supply("storage.load", () -> {
+            UserData user;
+            try {
+                user = loadUser(uuid, name);
             } catch (SQLException e) {
                 plugin.getLogger().severe("유저 데이터 로드 실패: " + name);
                 e.printStackTrace();
-
-                UserData user = new UserData(uuid, name);
-                userCache.put(uuid, user);
-                future.complete(user);
+                user = new UserData(uuid, name);
             }
-        });
 
-        return future;
+            // 캐시 등록 (로드 중 설정된 저널 비트는 DB 값과 같으므로 버림)
+            user.takeJournalMask();
+            offlineCache.invalidate(uuid);
+            userCache.put(uuid, user);
+            return user;
+        });
     }
 
-    // ... (기존 메서드들) ...
-
-    private String serializePhase1Data(UserData user) {
-        Map<String, Object> data = new java.util.HashMap<>();
-        data.put("mobKillCounts", user.getMobKillCounts());
-        data.put("exploredChunks", user.getExploredChunks()); // private 필드 접근 필요 -> getter 없으면 추가했어야 함. UserData 수정 확인
-                                                              // 필요.
-        // *UserData 수정 때 getExploredChunks() Getter 자동 생성(@Data) 되었을 것임. Set<Long> 타입.
-        return gson.toJson(data);
-    }
+    /**
+     * 접속 전 사전 로그인 단계에서 유저 데이터를 미리 읽어 둡니다. (비동기 스레드에서 호출)
+     * <p>
+     * 읽은 데이터는 접속이 완료될 때 {@link #claimPrefetched(UUID)}로 캐시에 등록됩니다.
+     * 로드에 실패하면 아무것도 남기지 않으며, 접속 시 일반 로드로 다시 시도합니다.
+     * </p>
+     * 
+     * @param uuid 플레이어 UUID
+     * @param name 플레이어 이름
+     */
+    public void prefetchUser(UUID uuid, String name) {
+        if (userCache.containsKey(uuid)) {
+            return;
+        }
+        purgeExpiredPrefetches();
 
-    private void deserializePhase1Data(String json, UserData user) {
         try {
-            Type type = new TypeToken<Map<String, Object>>() {
-            }.getType();
-            Map<String, Object> data = gson.fromJson(json, type);
-            if (data == null)
-                return;
-
-            // Kill Counts
-            if (data.containsKey("mobKillCounts")) {
-                String killJson = gson.toJson(data.get("mobKillCounts"));
-                Type mapType = new TypeToken<Map<String, Integer>>() {
-                }.getType();
-                Map<String, Integer> kills = gson.fromJson(killJson, mapType);
-                if (kills != null) {
-                    kills.forEach(user::addMobKillCount); // 기존 맵 유지하며 병합 or clear 후 putAll?
-                    // 로직상 addMobKillCount는 merge하므로, 그냥 putAll이 나음.
-                    // 하지만 UserData에 setMobKillCounts가 없으므로 반복문으로 넣음.
-                }
-            }
-
-            // Explored Chunks
-            if (data.containsKey("exploredChunks")) {
-                String chunkJson = gson.toJson(data.get("exploredChunks"));
-                Type setType = new TypeToken<java.util.Set<Long>>() {
-                }.getType();
-                java.util.Set<Long> chunks = gson.fromJson(chunkJson, setType);
-                if (chunks != null) {
-                    chunks.forEach(user::addExploredChunk);
-                }
-            }
-        } catch (Exception e) {
-            plugin.getLogger().warning("Phase 1 데이터 로드 중 오류: " + e.getMessage());
+            prefetched.put(uuid, new PrefetchedUser(loadUser(uuid, name), System.currentTimeMillis()));
+        } catch (SQLException e) {
+            plugin.getLogger().warning("[Storage] 사전 로드 실패, 접속 후 다시 시도합니다: " + name + " (" + e.getMessage() + ")");
         }
     }
 
     /**
-     * 유저 캐시를 반환합니다.
+     * 미리 읽어 둔 유저 데이터를 캐시에 등록하고 반환합니다. (메인 스레드에서 호출)
      * 
-     * @return 유저 캐시 맵
+     * @param uuid 플레이어 UUID
+     * @return 미리 읽어 둔 UserData 또는 null
      */
-    public Map<UUID, UserData> getUserCache() {
-        return userCache;
+    public UserData claimPrefetched(UUID uuid) {
+        PrefetchedUser entry = prefetched.remove(uuid);
+        if (entry == null) {
+            return null;
+        }
+        entry.data().takeJournalMask();
+        offlineCache.invalidate(uuid);
+        UserData existing = userCache.putIfAbsent(uuid, entry.data());
+        return existing != null ? existing : entry.data();
     }
 
-    // ==================== 직렬화/역직렬화 ====================
-
     /**
-     * 직업 데이터를 JSON 문자열로 직렬화합니다.
+     * 접속이 거부된 경우 미리 읽어 둔 데이터를 버립니다.
+     * 
+     * @param uuid 플레이어 UUID
      */
-    private String serializeJobData(Map<JobType, JobInfo> jobs) {
-        // JobType을 configKey로 변환하여 저장
-        Map<String, JobInfo> serializable = new java.util.HashMap<>();
-        for (Map.Entry<JobType, JobInfo> entry : jobs.entrySet()) {
-            serializable.put(entry.getKey().getConfigKey(), entry.getValue());
-        }
-        return gson.toJson(serializable);
+    public void discardPrefetched(UUID uuid) {
+        prefetched.remove(uuid);
+    }
+
+    private void purgeExpiredPrefetches() {
+        long now = System.currentTimeMillis();
+        prefetched.values().removeIf(entry -> now - entry.loadedAt() > PREFETCH_EXPIRE_MS);
     }
 
     /**
-     * JSON 문자열에서 직업 데이터를 역직렬화합니다.
+     * 저장소에서 유저 데이터를 읽어 복원합니다. (호출 스레드에서 동기 실행)
+     * 
+     * @param uuid 플레이어 UUID
+     * @param name 플레이어 이름
+     * @return 복원된 UserData (저장된 데이터가 없으면 신규 유저)
+     * @throws SQLException 조회 실패 시
      */
-    private Map<JobType, JobInfo> deserializeJobData(String json) {
-        try {
-            Type type = new TypeToken<Map<String, JobInfo>>() {
-            }.getType();
-            Map<String, JobInfo> raw = gson.fromJson(json, type);
+    private UserData loadUser(UUID uuid, String name) throws SQLException {
+        // 저장 큐에 남은 이전 세션 데이터가 먼저 기록되도록 대기 (빠른 재접속 대비)
+        awaitPendingSave(uuid);
 
-            Map<JobType, JobInfo> result = new EnumMap<>(JobType.class);
+        long start = System.nanoTime();
+        UserData user;
+        try {
+            user = repository.load(uuid, name);
+        } catch (SQLException e) {
+            metrics.recordLoadFailure();
+            throw e;
+        }
+        metrics.recordLoad(System.nanoTime() - start);
+        if (plugin.isDebugMode()) {
+            plugin.getLogger().info("[Storage] 유저 데이터 로드 완료: " + name);
+        }
+        return user;
+    }
 
-            // 모든 직업을 기본값으로 초기화
-            for (JobType jobType : JobType.values()) {
-                result.put(jobType, new JobInfo());
-            }
+    private void awaitPendingSave(UUID uuid) {
+        try {
+            saveQueue.whenFlushed(uuid).get(PENDING_SAVE_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            plugin.getLogger().warning("[Storage] 이전 저장 대기 시간 초과, 로드를 진행합니다: " + uuid);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+        }
+    }
 
-            // 저장된 데이터로 덮어쓰기
-            if (raw != null) {
-                for (Map.Entry<String, JobInfo> entry : raw.entrySet()) {
-                    JobType jobType = JobType.fromConfigKey(entry.getKey());
-                    if (jobType != null && entry.getValue() != null) {
-                        result.put(jobType, entry.getValue());
-                    }
-                }
-            }
+    /**
+     * 오프라인 유저 캐시를 반환합니다.
+     * 
+     * @return 오프라인 유저 캐시
+     */
+    public OfflineUserCache getOfflineCache() {
+        return offlineCache;
+    }
 
-            return result;
-        } catch (Exception e) {
-            plugin.getLogger().warning("직업 데이터 역직렬화 실패: " + e.getMessage());
-            return null;
-        }
+    /**
+     * 일괄 데이터 도구를 반환합니다.
+     * 
+     * @return 데이터 도구
+     */
+    public UserDataTransfer getDataTransfer() {
+        return dataTransfer;
     }
 
     /**
-     * 구버전 단일 직업 데이터를 새 구조로 마이그레이션합니다.
+     * 유저 캐시를 반환합니다.
+     * 
+     * @return 유저 캐시 맵
      */
-    private void migrateOldJobData(ResultSet rs, UserData user) {
-        try {
-            String oldJobId = rs.getString("job_id");
-            int oldLevel = rs.getInt("job_level");
-            double oldExp = rs.getDouble("job_exp");
-
-            if (oldJobId != null && !oldJobId.isEmpty()) {
-                JobType jobType = JobType.fromConfigKey(oldJobId);
-                if (jobType != null) {
-                    JobInfo info = user.getJobInfo(jobType);
-                    info.setLevel(Math.max(1, oldLevel));
-                    info.setCurrentExp(oldExp);
-                    info.setTotalExp(oldExp);
-
-                    // 마이그레이션 후 더티 플래그 설정 (새 구조로 저장되도록)
-                    user.markDirty();
-
-                    plugin.getLogger().info("[Storage] 구버전 직업 데이터 마이그레이션: "
-                            + user.getName() + " -> " + jobType.getDisplayName() + " Lv." + oldLevel);
-                }
-            }
-        } catch (SQLException e) {
-            // 구버전 컬럼이 없을 수 있음 - 무시
-            if (plugin.isDebugMode()) {
-                plugin.getLogger().info("[Storage] 구버전 컬럼 없음, 신규 유저로 처리");
-            }
-        }
+    public Map<UUID, UserData> getUserCache() {
+        return userCache;
     }
 }
@@ -0,0 +1,198 @@
+package com.dreamwork.core.database;
+
+import com.dreamwork.core.model.UserSection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 저장소 지표 (지연 시간 분포, 처리량, 실패 횟수)
+ * <p>
+ * 로드/저장/커넥션 대기 시간의 분포와 구역별 직렬화 크기를 누적합니다.
+ * 모든 기록 메서드는 잠금 없이 여러 스레드에서 호출할 수 있습니다.
+ * 값은 서버 시작 이후 누적이며, {@code /dw storage}와 주기 요약 로그로 확인합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class StorageMetrics {
+
+    /** 유저 로드 시간 */
+    private final Histogram loadTime = new Histogram();
+
+    /** 배치 저장(트랜잭션) 시간 */
+    private final Histogram batchWriteTime = new Histogram();
+
+    /** 커넥션 풀 대기 시간 */
+    private final Histogram poolWaitTime = new Histogram();
+
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder saveRequests = new LongAdder();
+    private final LongAdder savedUsers = new LongAdder();
+    private final LongAdder batchFailures = new LongAdder();
+    private final LongAdder poolTimeouts = new LongAdder();
+    private final LongAdder statementsReused = new LongAdder();
+    private final LongAdder statementsPrepared = new LongAdder();
+
+    /** 구역별 직렬화 바이트 합계 / 기록 횟수 */
+    private final LongAdder[] sectionBytes = new LongAdder[UserSection.values().length];
+    private final LongAdder[] sectionWrites = new LongAdder[UserSection.values().length];
+
+    public StorageMetrics() {
+        for (int i = 0; i < sectionBytes.length; i++) {
+            sectionBytes[i] = new LongAdder();
+            sectionWrites[i] = new LongAdder();
+        }
+    }
+
+    // ==================== 기록 ====================
+
+    public void recordLoad(long nanos) {
+        loadTime.record(nanos);
+    }
+
+    public void recordLoadFailure() {
+        loadFailures.increment();
+    }
+
+    public void recordSaveRequest() {
+        saveRequests.increment();
+    }
+
+    public void recordBatchWrite(long nanos, int users) {
+        batchWriteTime.record(nanos);
+        savedUsers.add(users);
+    }
+
+    public void recordBatchFailure() {
+        batchFailures.increment();
+    }
+
+    public void recordPoolWait(long nanos) {
+        poolWaitTime.record(nanos);
+    }
+
+    public void recordPoolTimeout() {
+        poolTimeouts.increment();
+    }
+
+    /**
+     * 구문 캐시 조회 결과를 기록합니다.
+     *
+     * @param reused 캐시된 구문을 재사용했으면 true, 새로 준비했으면 false
+     */
+    public void recordStatement(boolean reused) {
+        (reused ? statementsReused : statementsPrepared).increment();
+    }
+
+    /**
+     * 구역 하나의 직렬화 크기를 기록합니다.
+     *
+     * @param section 구역
+     * @param bytes   직렬화된 바이트 수
+     */
+    public void recordSectionSize(UserSection section, int bytes) {
+        sectionBytes[section.ordinal()].add(bytes);
+        sectionWrites[section.ordinal()].increment();
+    }
+
+    // ==================== 출력 ====================
+
+    /**
+     * 사람이 읽을 수 있는 요약을 만듭니다.
+     *
+     * @param queueDepth 현재 저장 큐 대기 인원
+     * @param pool       커넥션 풀 상태 (없으면 null)
+     * @return 요약 줄 목록
+     */
+    public List<String> summary(int queueDepth, String pool) {
+        List<String> lines = new ArrayList<>();
+        lines.add("로드: " + loadTime.describe() + ", 실패 " + loadFailures.sum());
+        lines.add("저장: 요청 " + saveRequests.sum() + ", 기록 " + savedUsers.sum() + "명, 대기 " + queueDepth
+                + "명, 배치 실패 " + batchFailures.sum());
+        lines.add("배치 트랜잭션: " + batchWriteTime.describe());
+        lines.add("풀 대기: " + poolWaitTime.describe() + ", 시간 초과 " + poolTimeouts.sum()
+                + (pool != null ? " (" + pool + ")" : ""));
+        lines.add("구문 캐시: 재사용 " + statementsReused.sum() + ", 새로 준비 " + statementsPrepared.sum());
+
+        StringBuilder sizes = new StringBuilder("구역별 평균 크기:");
+        boolean any = false;
+        for (UserSection section : UserSection.values()) {
+            long writes = sectionWrites[section.ordinal()].sum();
+            if (writes > 0) {
+                sizes.append(' ').append(section.name()).append('=')
+                        .append(sectionBytes[section.ordinal()].sum() / writes).append('B');
+                any = true;
+            }
+        }
+        if (any) {
+            lines.add(sizes.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * 로그 스케일 버킷 히스토그램 (ms)
+     * <p>
+     * 정확한 백분위 대신 버킷 상한으로 근사합니다.
+     * </p>
+     */
+    static final class Histogram {
+
+        /** 버킷 상한 (ms), 마지막 버킷은 그 이상 전부 */
+        private static final double[] BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length + 1);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        void record(long nanos) {
+            double millis = nanos / 1_000_000.0;
+            int index = 0;
+            while (index < BOUNDS.length && millis > BOUNDS[index]) {
+                index++;
+            }
+            buckets.incrementAndGet(index);
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        /**
+         * 백분위 근사값을 반환합니다.
+         *
+         * @param percentile 0~1
+         * @return 해당 백분위가 속한 버킷의 상한 (ms)
+         */
+        double percentile(double percentile) {
+            long total = count.sum();
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return i < BOUNDS.length ? BOUNDS[i] : maxNanos.get() / 1_000_000.0;
+                }
+            }
+            return maxNanos.get() / 1_000_000.0;
+        }
+
+        String describe() {
+            long total = count.sum();
+            if (total == 0) {
+                return "기록 없음";
+            }
+            return String.format("%d회, 평균 %.1fms, p50<=%.0fms, p99<=%.0fms, 최대 %.1fms",
+                    total, totalNanos.sum() / 1_000_000.0 / total,
+                    percentile(0.5), percentile(0.99), maxNanos.get() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package com.dreamwork.core.database;
+
+import com.dreamwork.core.job.JobInfo;
+import com.dreamwork.core.job.JobType;
+import com.dreamwork.core.model.ChunkSet;
+import com.dreamwork.core.model.UserSection;
+import com.dreamwork.core.model.UserSnapshot;
+import com.dreamwork.core.quest.QuestProgress;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 유저 데이터 바이너리 코덱
+ * <p>
+ * 직업/퀘스트/처치 수 데이터를 Gson 리플렉션 없이 직접 바이트로 인코딩합니다.
+ * 모든 블롭은 [버전 1바이트][항목 수 varint][항목...] 형식이며,
+ * 정수는 varint(음수 가능 값은 zigzag), 문자열은 길이 접두 UTF-8로 기록합니다.
+ * </p>
+ * <p>
+ * 직업은 {@link JobType}의 ordinal로 기록하므로 열거형 상수는 끝에만 추가해야 합니다.
+ * 알 수 없는 ordinal은 읽을 때 무시됩니다.
+ * </p>
+ * <p>
+ * 저널과 덤프 파일은 이 블롭들을 묶은 스냅샷 레코드({@link #writeSnapshot})를 사용합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public final class UserDataCodec {
+
+    /** 바이너리 포맷 버전 */
+    private static final byte FORMAT_VERSION = 1;
+
+    /** 스냅샷 레코드 안의 블롭 최대 크기 (손상 감지용) */
+    private static final int MAX_BLOB_SIZE = 16 * 1024 * 1024;
+
+    private static final QuestProgress.QuestStatus[] QUEST_STATUSES = QuestProgress.QuestStatus.values();
+    private static final JobType[] JOB_TYPES = JobType.values();
+
+    private UserDataCodec() {
+    }
+
+    // ==================== 직업 ====================
+
+    /**
+     * 직업 데이터를 인코딩합니다.
+     * 항목: [직업 ordinal varint][레벨 varint][현재 경험치 double][총 경험치 double]
+     *
+     * @param jobs 직업 데이터
+     * @return 바이트 배열
+     */
+    public static byte[] encodeJobs(Map<JobType, JobInfo> jobs) {
+        Writer out = new Writer(2 + jobs.size() * 18);
+        out.header(jobs.size());
+        for (Map.Entry<JobType, JobInfo> entry : jobs.entrySet()) {
+            JobInfo info = entry.getValue();
+            out.varInt(entry.getKey().ordinal());
+            out.varInt(info.getLevel());
+            out.float64(info.getCurrentExp());
+            out.float64(info.getTotalExp());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 직업 데이터를 복원합니다. 저장되지 않은 직업은 기본값(레벨 1)으로 채웁니다.
+     *
+     * @param data 바이트 배열
+     * @return 직업 데이터
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static Map<JobType, JobInfo> decodeJobs(byte[] data) {
+        Map<JobType, JobInfo> result = new EnumMap<>(JobType.class);
+        for (JobType jobType : JOB_TYPES) {
+            result.put(jobType, new JobInfo());
+        }
+
+        Reader in = new Reader(data, "직업");
+        int size = in.header();
+        for (int i = 0; i < size; i++) {
+            int ordinal = in.varInt();
+            int level = in.varInt();
+            double currentExp = in.float64();
+            double totalExp = in.float64();
+            if (ordinal >= 0 && ordinal < JOB_TYPES.length) {
+                result.put(JOB_TYPES[ordinal], new JobInfo(level, currentExp, totalExp));
+            }
+        }
+        return result;
+    }
+
+    // ==================== 퀘스트 ====================
+
+    /**
+     * 퀘스트 진행 상황을 인코딩합니다.
+     * 항목: [퀘스트 ID 문자열][진행도 zigzag varint][상태 ordinal+1 varint, 0은 null]
+     *
+     * @param quests 퀘스트 진행 상황
+     * @return 바이트 배열
+     */
+    public static byte[] encodeQuests(Map<String, QuestProgress> quests) {
+        Writer out = new Writer(2 + quests.size() * 24);
+        out.header(quests.size());
+        for (Map.Entry<String, QuestProgress> entry : quests.entrySet()) {
+            QuestProgress progress = entry.getValue();
+            out.string(entry.getKey());
+            out.string(progress.getQuestId());
+            out.zigZag(progress.getCurrentProgress());
+            out.varInt(progress.getStatus() != null ? progress.getStatus().ordinal() + 1 : 0);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 퀘스트 진행 상황을 복원합니다.
+     *
+     * @param data 바이트 배열
+     * @return 퀘스트 진행 상황
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static Map<String, QuestProgress> decodeQuests(byte[] data) {
+        Reader in = new Reader(data, "퀘스트");
+        int size = in.header();
+        Map<String, QuestProgress> result = new HashMap<>(Math.max(16, size * 2));
+        for (int i = 0; i < size; i++) {
+            String key = in.string();
+            String questId = in.string();
+            int current = in.zigZag();
+            int status = in.varInt();
+
+            QuestProgress progress = new QuestProgress(questId);
+            progress.setProgress(current);
+            progress.setStatus(status > 0 && status <= QUEST_STATUSES.length ? QUEST_STATUSES[status - 1] : null);
+            result.put(key, progress);
+        }
+        return result;
+    }
+
+    // ==================== 처치 수 ====================
+
+    /**
+     * 몬스터 처치 수를 인코딩합니다.
+     * 항목: [몬스터 키 문자열][처치 수 zigzag varint]
+     *
+     * @param kills 처치 수
+     * @return 바이트 배열
+     */
+    public static byte[] encodeKills(Map<String, Integer> kills) {
+        Writer out = new Writer(2 + kills.size() * 16);
+        out.header(kills.size());
+        for (Map.Entry<String, Integer> entry : kills.entrySet()) {
+            out.string(entry.getKey());
+            out.zigZag(entry.getValue() != null ? entry.getValue() : 0);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 몬스터 처치 수를 복원합니다.
+     *
+     * @param data 바이트 배열
+     * @return 처치 수
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static Map<String, Integer> decodeKills(byte[] data) {
+        Reader in = new Reader(data, "처치 수");
+        int size = in.header();
+        Map<String, Integer> result = new HashMap<>(Math.max(16, size * 2));
+        for (int i = 0; i < size; i++) {
+            String key = in.string();
+            result.put(key, in.zigZag());
+        }
+        return result;
+    }
+
+    // ==================== 스냅샷 레코드 ====================
+
+    /**
+     * 스냅샷 하나를 레코드로 기록합니다. (저널, 덤프 파일 공용)
+     * <p>
+     * 형식: [UUID 16바이트][구역 마스크 int][이름][현재 마나][일일 리셋 날짜][포함된 구역 값...]
+     * 프로필 값은 병합 시 항상 최신 값을 쓰므로 구역과 무관하게 기록하며,
+     * 직업/퀘스트/처치 수/청크는 길이 접두 블롭으로 기록합니다.
+     * </p>
+     *
+     * @param out      출력 스트림
+     * @param snapshot 스냅샷
+     * @throws IOException 기록 실패 시
+     */
+    public static void writeSnapshot(DataOutput out, UserSnapshot snapshot) throws IOException {
+        out.writeLong(snapshot.uuid().getMostSignificantBits());
+        out.writeLong(snapshot.uuid().getLeastSignificantBits());
+        out.writeInt(snapshot.sections());
+
+        writeNullableString(out, snapshot.name());
+        out.writeDouble(snapshot.currentMana());
+        writeNullableString(out, snapshot.lastDailyReset() != null ? snapshot.lastDailyReset().toString() : null);
+
+        if (snapshot.has(UserSection.STATS)) {
+            out.writeInt(snapshot.str());
+            out.writeInt(snapshot.dex());
+            out.writeInt(snapshot.con());
+            out.writeInt(snapshot.intel());
+            out.writeInt(snapshot.luk());
+            out.writeInt(snapshot.statPoints());
+        }
+        if (snapshot.has(UserSection.BALANCE)) {
+            out.writeDouble(snapshot.balance());
+        }
+        if (snapshot.has(UserSection.JOBS)) {
+            writeBlob(out, encodeJobs(snapshot.jobs()));
+        }
+        if (snapshot.has(UserSection.QUESTS)) {
+            writeBlob(out, encodeQuests(snapshot.questProgresses()));
+        }
+        if (snapshot.has(UserSection.KILL_COUNTS)) {
+            writeBlob(out, encodeKills(snapshot.mobKillCounts()));
+        }
+        if (snapshot.has(UserSection.EXPLORED_CHUNKS)) {
+            writeBlob(out, ChunkSet.encode(snapshot.exploredChunks()));
+        }
+    }
+
+    /**
+     * {@link #writeSnapshot}로 기록한 레코드를 읽습니다.
+     *
+     * @param in     입력 스트림
+     * @param insert 복원한 스냅샷의 전체 행 기록 여부
+     * @return 스냅샷
+     * @throws IOException              읽기 실패 또는 잘린 레코드
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static UserSnapshot readSnapshot(DataInput in, boolean insert) throws IOException {
+        UUID uuid = new UUID(in.readLong(), in.readLong());
+        int sections = in.readInt() & UserSection.ALL_MASK;
+
+        String name = readNullableString(in);
+        double currentMana = in.readDouble();
+        String reset = readNullableString(in);
+        LocalDate lastDailyReset;
+        try {
+            lastDailyReset = reset != null ? LocalDate.parse(reset) : null;
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("손상된 날짜 데이터: " + reset);
+        }
+
+        int str = 0, dex = 0, con = 0, intel = 0, luk = 0, statPoints = 0;
+        if (UserSection.STATS.in(sections)) {
+            str = in.readInt();
+            dex = in.readInt();
+            con = in.readInt();
+            intel = in.readInt();
+            luk = in.readInt();
+            statPoints = in.readInt();
+        }
+
+        double balance = UserSection.BALANCE.in(sections) ? in.readDouble() : 0;
+        Map<JobType, JobInfo> jobs = UserSection.JOBS.in(sections) ? decodeJobs(readBlob(in)) : null;
+        Map<String, QuestProgress> quests = UserSection.QUESTS.in(sections) ? decodeQuests(readBlob(in)) : null;
+        Map<String, Integer> kills = UserSection.KILL_COUNTS.in(sections) ? decodeKills(readBlob(in)) : null;
+        long[] chunks = UserSection.EXPLORED_CHUNKS.in(sections) ? ChunkSet.fromBytes(readBlob(in)).toArray() : null;
+
+        return new UserSnapshot(uuid, name, sections, insert, jobs,
+                str, dex, con, intel, luk, statPoints, balance, currentMana, lastDailyReset,
+                quests, kills, chunks);
+    }
+
+    private static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeBlob(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBlob(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_BLOB_SIZE) {
+            throw new IOException("잘못된 필드 길이: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    // ==================== 저수준 입출력 ====================
+
+    /**
+     * 확장 가능한 바이트 버퍼
+     */
+    private static final class Writer {
+
+        private byte[] buf;
+        private int pos;
+
+        Writer(int initialCapacity) {
+            this.buf = new byte[Math.max(16, initialCapacity)];
+        }
+
+        void header(int count) {
+            ensure(1);
+            buf[pos++] = FORMAT_VERSION;
+            varInt(count);
+        }
+
+        void varInt(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[pos++] = (byte) value;
+        }
+
+        void zigZag(int value) {
+            varInt((value << 1) ^ (value >> 31));
+        }
+
+        void float64(double value) {
+            ensure(8);
+            long bits = Double.doubleToRawLongBits(value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buf[pos++] = (byte) (bits >>> shift);
+            }
+        }
+
+        void string(String value) {
+            byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+            varInt(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, pos, bytes.length);
+            pos += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+
+        private void ensure(int extra) {
+            if (pos + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, pos + extra));
+            }
+        }
+    }
+
+    /**
+     * 범위 검사를 하는 바이트 판독기
+     */
+    private static final class Reader {
+
+        private final byte[] data;
+        private final String label;
+        private int pos;
+
+        Reader(byte[] data, String label) {
+            this.data = data;
+            this.label = label;
+        }
+
+        int header() {
+            if (data == null || data.length == 0) {
+                return 0;
+            }
+            if (data[0] != FORMAT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 " + label + " 데이터 버전: " + data[0]);
+            }
+            pos = 1;
+            int size = varInt();
+            // 항목당 최소 1바이트 이상이므로 남은 길이보다 클 수 없음
+            if (size < 0 || size > data.length - pos) {
+                throw corrupted();
+            }
+            return size;
+        }
+
+        int varInt() {
+            int result = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                if (pos >= data.length) {
+                    throw corrupted();
+                }
+                byte b = data[pos++];
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw corrupted();
+        }
+
+        int zigZag() {
+            int raw = varInt();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        double float64() {
+            if (pos + 8 > data.length) {
+                throw corrupted();
+            }
+            long bits = 0L;
+            for (int i = 0; i < 8; i++) {
+                bits = (bits << 8) | (data[pos++] & 0xFFL);
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        String string() {
+            int length = varInt();
+            if (length < 0 || pos + length > data.length) {
+                throw corrupted();
+            }
+            String value = new String(data, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        private IllegalArgumentException corrupted() {
+            return new IllegalArgumentException("손상된 " + label + " 데이터");
+        }
+    }
+}
@@ -0,0 +1,499 @@
+package com.dreamwork.core.database;
+
+import com.dreamwork.core.database.repository.UserRepository;
+import com.dreamwork.core.job.JobInfo;
+import com.dreamwork.core.job.JobType;
+import com.dreamwork.core.model.UserData;
+import com.dreamwork.core.model.UserSection;
+import com.dreamwork.core.model.UserSnapshot;
+import com.dreamwork.core.quest.QuestProgress;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 유저 데이터 일괄 내보내기/가져오기/정리 도구
+ * <p>
+ * 모든 작업은 {@link UserRepository#loadPage}로 페이지 단위로 읽고 쓰므로
+ * 유저 수와 관계없이 한 페이지 분량의 메모리만 사용합니다.
+ * 저장소 구현에 의존하지 않으므로 SQLite에서 내보낸 파일을 MySQL로 가져오는 데 사용할 수 있습니다.
+ * 직업 데이터(dw_jobs 행)는 유저 데이터와 함께 내보내고 가져옵니다.
+ * </p>
+ * <p>
+ * 파일 형식:
+ * <ul>
+ * <li>{@link Format#BINARY} - GZIP으로 압축한 스냅샷 레코드({@link UserDataCodec#writeSnapshot})</li>
+ * <li>{@link Format#JSON} - 한 줄에 유저 한 명씩 JSON 객체 (직업/퀘스트는 구버전 JSON 컬럼과 같은 구조)</li>
+ * </ul>
+ * </p>
+ * <p>
+ * 작업은 호출 스레드에서 동기 실행되며, 동시에 하나만 실행할 수 있습니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class UserDataTransfer {
+
+    /** 바이너리 덤프 헤더 ("DWDU") */
+    private static final int DUMP_MAGIC = 0x44574455;
+    private static final byte DUMP_VERSION = 1;
+
+    /**
+     * 덤프 파일 형식
+     */
+    public enum Format {
+        BINARY(".dwdump"),
+        JSON(".jsonl");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * 파일 이름으로 형식을 판단합니다.
+         *
+         * @param file 덤프 파일
+         * @return 형식 (.jsonl이면 JSON, 그 외 BINARY)
+         */
+        public static Format of(File file) {
+            return file.getName().endsWith(JSON.extension) ? JSON : BINARY;
+        }
+    }
+
+    private final UserRepository repository;
+    private final int pageSize;
+    private final Gson gson = new Gson();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public UserDataTransfer(UserRepository repository, int pageSize) {
+        this.repository = repository;
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * 다른 작업이 실행 중인지 확인합니다.
+     *
+     * @return 실행 중이면 true
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    // ==================== 내보내기 ====================
+
+    /**
+     * 모든 유저를 파일로 내보냅니다.
+     *
+     * @param file     대상 파일
+     * @param format   파일 형식
+     * @param progress 진행 상황 알림
+     * @return 내보낸 유저 수
+     * @throws IOException   파일 기록 실패 시
+     * @throws SQLException  조회 실패 시
+     * @throws IllegalStateException 다른 작업이 실행 중인 경우
+     */
+    public int exportAll(File file, Format format, Consumer<String> progress) throws IOException, SQLException {
+        acquire();
+        boolean completed = false;
+        try (DumpWriter writer = format == Format.JSON ? new JsonDumpWriter(file) : new BinaryDumpWriter(file)) {
+            int total = 0;
+            String after = null;
+            List<UserData> page;
+            while (!(page = repository.loadPage(after, pageSize)).isEmpty()) {
+                for (UserData user : page) {
+                    writer.write(UserSnapshot.of(user, UserSection.ALL_MASK, true));
+                }
+                total += page.size();
+                after = page.get(page.size() - 1).getUuid().toString();
+                progress.accept("내보내기 진행: " + total + "명");
+            }
+            writer.finish();
+            completed = true;
+            return total;
+        } finally {
+            if (!completed) {
+                // 일부만 기록된 파일을 완전한 덤프로 오인하지 않도록 삭제
+                file.delete();
+            }
+            running.set(false);
+        }
+    }
+
+    // ==================== 가져오기 ====================
+
+    /**
+     * 파일의 유저를 저장소에 기록합니다. 같은 UUID의 기존 데이터는 덮어씁니다.
+     *
+     * @param file     덤프 파일
+     * @param skip     가져오지 않을 UUID (접속 중인 유저 - 메모리 데이터가 우선)
+     * @param progress 진행 상황 알림
+     * @return [가져온 수, 건너뛴 수]
+     * @throws IOException   파일 읽기 실패 또는 형식 오류
+     * @throws SQLException  기록 실패 시
+     * @throws IllegalStateException 다른 작업이 실행 중인 경우
+     */
+    public int[] importAll(File file, Collection<UUID> skip, Consumer<String> progress)
+            throws IOException, SQLException {
+        acquire();
+        try (DumpReader reader = Format.of(file) == Format.JSON ? new JsonDumpReader(file) : new BinaryDumpReader(file)) {
+            int imported = 0;
+            int skipped = 0;
+            List<UserSnapshot> batch = new ArrayList<>(pageSize);
+            UserSnapshot snapshot;
+            while ((snapshot = reader.read()) != null) {
+                if (skip.contains(snapshot.uuid())) {
+                    skipped++;
+                    continue;
+                }
+                batch.add(snapshot);
+                if (batch.size() >= pageSize) {
+                    repository.saveAll(batch);
+                    imported += batch.size();
+                    batch.clear();
+                    progress.accept("가져오기 진행: " + imported + "명");
+                }
+            }
+            if (!batch.isEmpty()) {
+                repository.saveAll(batch);
+                imported += batch.size();
+            }
+            return new int[] { imported, skipped };
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ==================== 정리 ====================
+
+    /**
+     * 구버전 형식으로 남은 행을 현재 형식으로 다시 기록하고, 선택적으로 장기 미접속 유저를 삭제한 뒤
+     * 저장 공간을 회수합니다.
+     *
+     * @param pruneBefore 이 시각(epoch ms) 이전에 마지막으로 저장된 유저 삭제 (0 이하이면 삭제하지 않음)
+     * @param exclude     건드리지 않을 UUID (접속 중인 유저)
+     * @param progress    진행 상황 알림
+     * @return [다시 기록한 수, 삭제한 수]
+     * @throws SQLException 실패 시
+     * @throws IllegalStateException 다른 작업이 실행 중인 경우
+     */
+    public int[] compact(long pruneBefore, Collection<UUID> exclude, Consumer<String> progress) throws SQLException {
+        acquire();
+        try {
+            int scanned = 0;
+            int rewritten = 0;
+            String after = null;
+            List<UserData> page;
+            while (!(page = repository.loadPage(after, pageSize)).isEmpty()) {
+                // 로드 시 구버전 데이터를 읽은 구역은 더티로 표시되므로 그 구역만 다시 기록
+                List<UserSnapshot> legacy = new ArrayList<>();
+                for (UserData user : page) {
+                    if (user.isDirty() && !exclude.contains(user.getUuid())) {
+                        legacy.add(UserSnapshot.of(user));
+                    }
+                }
+                if (!legacy.isEmpty()) {
+                    repository.saveAll(legacy);
+                    rewritten += legacy.size();
+                }
+                scanned += page.size();
+                after = page.get(page.size() - 1).getUuid().toString();
+                progress.accept("정리 진행: " + scanned + "명 확인, " + rewritten + "명 변환");
+            }
+
+            int deleted = 0;
+            if (pruneBefore > 0) {
+                deleted = repository.deleteInactive(pruneBefore, exclude);
+                progress.accept("장기 미접속 유저 삭제: " + deleted + "명");
+            }
+
+            repository.compact();
+            return new int[] { rewritten, deleted };
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 다른 데이터 작업이 실행 중입니다.");
+        }
+    }
+
+    // ==================== 바이너리 형식 ====================
+
+    private interface DumpWriter extends AutoCloseable {
+        void write(UserSnapshot snapshot) throws IOException;
+
+        /** 모든 레코드를 기록한 뒤 호출 */
+        void finish() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private interface DumpReader extends AutoCloseable {
+        /** 다음 스냅샷, 끝이면 null */
+        UserSnapshot read() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class BinaryDumpWriter implements DumpWriter {
+
+        private final DataOutputStream out;
+
+        BinaryDumpWriter(File file) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(new FileOutputStream(file), 64 * 1024)));
+            out.writeInt(DUMP_MAGIC);
+            out.writeByte(DUMP_VERSION);
+        }
+
+        @Override
+        public void write(UserSnapshot snapshot) throws IOException {
+            out.writeBoolean(true);
+            UserDataCodec.writeSnapshot(out, snapshot);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            out.writeBoolean(false); // 끝 표시 (잘린 파일 감지용)
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private static final class BinaryDumpReader implements DumpReader {
+
+        private final DataInputStream in;
+
+        BinaryDumpReader(File file) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(
+                    new GZIPInputStream(new FileInputStream(file), 64 * 1024)));
+            if (in.readInt() != DUMP_MAGIC) {
+                in.close();
+                throw new IOException("DreamWork 덤프 파일이 아닙니다: " + file.getName());
+            }
+            byte version = in.readByte();
+            if (version != DUMP_VERSION) {
+                in.close();
+                throw new IOException("지원하지 않는 덤프 버전: " + version);
+            }
+        }
+
+        @Override
+        public UserSnapshot read() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            try {
+                return UserDataCodec.readSnapshot(in, true);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("손상된 덤프 레코드: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    // ==================== JSON 형식 ====================
+
+    private final class JsonDumpWriter implements DumpWriter {
+
+        private final BufferedWriter out;
+
+        JsonDumpWriter(File file) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8),
+                    64 * 1024);
+        }
+
+        @Override
+        public void write(UserSnapshot snapshot) throws IOException {
+            out.write(gson.toJson(toJson(snapshot)));
+            out.newLine();
+        }
+
+        @Override
+        public void finish() {
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private final class JsonDumpReader implements DumpReader {
+
+        private final BufferedReader in;
+        private int line = 0;
+
+        JsonDumpReader(File file) throws IOException {
+            this.in = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8),
+                    64 * 1024);
+        }
+
+        @Override
+        public UserSnapshot read() throws IOException {
+            String text;
+            do {
+                text = in.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            try {
+                return fromJson(JsonParser.parseString(text).getAsJsonObject());
+            } catch (JsonParseException | IllegalStateException | IllegalArgumentException
+                    | NullPointerException | DateTimeParseException e) {
+                throw new IOException(line + "번째 줄 형식 오류: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private JsonObject toJson(UserSnapshot snapshot) {
+        JsonObject json = new JsonObject();
+        json.addProperty("uuid", snapshot.uuid().toString());
+        json.addProperty("name", snapshot.name());
+        json.addProperty("str", snapshot.str());
+        json.addProperty("dex", snapshot.dex());
+        json.addProperty("con", snapshot.con());
+        json.addProperty("intel", snapshot.intel());
+        json.addProperty("luk", snapshot.luk());
+        json.addProperty("statPoints", snapshot.statPoints());
+        json.addProperty("balance", snapshot.balance());
+        json.addProperty("currentMana", snapshot.currentMana());
+        if (snapshot.lastDailyReset() != null) {
+            json.addProperty("lastDailyReset", snapshot.lastDailyReset().toString());
+        }
+
+        JsonObject jobs = new JsonObject();
+        snapshot.jobs().forEach((type, info) -> jobs.add(type.getConfigKey(), gson.toJsonTree(info)));
+        json.add("jobs", jobs);
+
+        JsonObject quests = new JsonObject();
+        snapshot.questProgresses().forEach((id, progress) -> quests.add(id, gson.toJsonTree(progress)));
+        json.add("questProgresses", quests);
+
+        JsonObject kills = new JsonObject();
+        snapshot.mobKillCounts().forEach(kills::addProperty);
+        json.add("mobKillCounts", kills);
+
+        JsonArray chunks = new JsonArray();
+        for (long key : snapshot.exploredChunks()) {
+            chunks.add(key);
+        }
+        json.add("exploredChunks", chunks);
+        return json;
+    }
+
+    private UserSnapshot fromJson(JsonObject json) {
+        UUID uuid = UUID.fromString(json.get("uuid").getAsString());
+        String name = json.has("name") && !json.get("name").isJsonNull() ? json.get("name").getAsString() : null;
+        LocalDate lastDailyReset = json.has("lastDailyReset")
+                ? LocalDate.parse(json.get("lastDailyReset").getAsString())
+                : null;
+
+        Map<JobType, JobInfo> jobs = new EnumMap<>(JobType.class);
+        for (JobType type : JobType.values()) {
+            jobs.put(type, new JobInfo());
+        }
+        if (json.has("jobs")) {
+            for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject("jobs").entrySet()) {
+                JobType type = JobType.fromConfigKey(entry.getKey());
+                if (type != null) {
+                    jobs.put(type, gson.fromJson(entry.getValue(), JobInfo.class));
+                }
+            }
+        }
+
+        Map<String, QuestProgress> quests = new HashMap<>();
+        if (json.has("questProgresses")) {
+            for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject("questProgresses").entrySet()) {
+                quests.put(entry.getKey(), gson.fromJson(entry.getValue(), QuestProgress.class));
+            }
+        }
+
+        Map<String, Integer> kills = new HashMap<>();
+        if (json.has("mobKillCounts")) {
+            for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject("mobKillCounts").entrySet()) {
+                kills.put(entry.getKey(), entry.getValue().getAsInt());
+            }
+        }
+
+        long[] chunks = new long[0];
+        if (json.has("exploredChunks")) {
+            JsonArray array = json.getAsJsonArray("exploredChunks");
+            chunks = new long[array.size()];
+            for (int i = 0; i < chunks.length; i++) {
+                chunks[i] = array.get(i).getAsLong();
+            }
+        }
+
+        return new UserSnapshot(uuid, name, UserSection.ALL_MASK, true, jobs,
+                getInt(json, "str"), getInt(json, "dex"), getInt(json, "con"),
+                getInt(json, "intel"), getInt(json, "luk"), getInt(json, "statPoints"),
+                getDouble(json, "balance", 0.0), getDouble(json, "currentMana", 100.0), lastDailyReset,
+                quests, kills, chunks);
+    }
+
+    private static int getInt(JsonObject json, String key) {
+        return json.has(key) ? json.get(key).getAsInt() : 0;
+    }
+
+    private static double getDouble(JsonObject json, String key, double fallback) {
+        return json.has(key) ? json.get(key).getAsDouble() : fallback;
+    }
+}
@@ -0,0 +1,361 @@
+package com.dreamwork.core.database;
+
+import com.dreamwork.core.DreamWorkCore;
+import com.dreamwork.core.model.UserSnapshot;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/**
+ * 크래시 대비 추가 전용(Append-Only) 유저 저널
+ * <p>
+ * 자동 저장 사이에 변경된 구역의 <b>현재 값</b>을 로컬 파일에 순차 기록합니다.
+ * 증감량이 아닌 최종 값을 기록하므로 같은 레코드를 여러 번 재적용해도 결과가 같습니다.
+ * 이미 DB에 반영된 레코드가 남아 있어도, 그 구역의 최신 값이 뒤에 기록되어 있어야만 안전합니다.
+ * 복구는 세그먼트의 마지막 값을 적용하므로, 유저를 저장 큐에 넣거나 캐시에서 내보내기 전에
+ * 기록하지 않은 구역을 반드시 마지막 레코드로 남겨야 합니다.
+ * ({@link StorageManager#saveUserAsync}, {@link StorageManager#unloadUser})
+ * </p>
+ * <p>
+ * 저널은 세그먼트 파일({@code journal-<번호>.log})로 나뉩니다. 자동 저장 시 새 세그먼트로 넘어가고,
+ * 그 시점까지 요청된 DB 저장이 모두 끝나면 이전 세그먼트를 삭제합니다.
+ * 서버 시작 시 남은 세그먼트를 순서대로 읽어 DB에 반영합니다.
+ * </p>
+ * <p>
+ * 레코드 형식: [길이 int][CRC32 int][본문]. 기록 도중 중단된 마지막 레코드는 CRC로 걸러집니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class UserJournal {
+
+    /** 세그먼트 파일 헤더 ("DWJ" + 버전 1) */
+    private static final int MAGIC = 0x44574A01;
+
+    /** 레코드 하나의 최대 크기 (손상 감지용) */
+    private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+
+    private final DreamWorkCore plugin;
+    private final File directory;
+    private final long fsyncIntervalMillis;
+
+    /** 모든 파일 작업은 이 스레드 하나에서 순서대로 수행 */
+    private final ExecutorService executor;
+
+    // ===== 저널 스레드 전용 상태 =====
+    private FileChannel channel;
+    private long segment;
+    private long lastSync;
+    private boolean unsynced;
+
+    public UserJournal(DreamWorkCore plugin, File directory, long fsyncIntervalMillis) {
+        this.plugin = plugin;
+        this.directory = directory;
+        this.fsyncIntervalMillis = Math.max(0L, fsyncIntervalMillis);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "DreamWork-Journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (!directory.exists()) {
+            directory.mkdirs();
+        }
+    }
+
+    // ==================== 복구 ====================
+
+    /**
+     * 남아 있는 모든 세그먼트를 읽어 유저별로 합칩니다. (서버 시작 시, 기록 시작 전에 호출)
+     *
+     * @return 유저별 최종 변경 사항 (기록 순서 유지)
+     */
+    public Map<UUID, UserSnapshot> recover() {
+        Map<UUID, UserSnapshot> merged = new LinkedHashMap<>();
+        for (File file : listSegments()) {
+            int count = readSegment(file, merged);
+            plugin.getLogger().info("[Journal] " + file.getName() + " 복구 레코드: " + count + "건");
+        }
+        return merged;
+    }
+
+    /**
+     * 복구한 세그먼트를 처리합니다. 반영에 실패했다면 자동 삭제되지 않도록 이름을 바꿔 보관합니다.
+     *
+     * @param applied DB 반영 성공 여부
+     */
+    public void finishRecovery(boolean applied) {
+        for (File file : listSegments()) {
+            if (applied) {
+                file.delete();
+            } else {
+                File failed = new File(directory, file.getName() + ".failed");
+                if (file.renameTo(failed)) {
+                    plugin.getLogger().severe("[Journal] 복구 데이터를 DB에 반영하지 못해 보관합니다: " + failed.getName());
+                }
+            }
+        }
+    }
+
+    private int readSegment(File file, Map<UUID, UserSnapshot> merged) {
+        int count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                plugin.getLogger().warning("[Journal] 알 수 없는 저널 파일 형식: " + file.getName());
+                return 0;
+            }
+
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break; // 정상 종료
+                }
+                int checksum = in.readInt();
+                if (length <= 0 || length > MAX_RECORD_SIZE) {
+                    throw new IOException("잘못된 레코드 길이: " + length);
+                }
+
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    throw new IOException("CRC 불일치");
+                }
+
+                UserSnapshot snapshot = UserDataCodec.readSnapshot(
+                        new DataInputStream(new ByteArrayInputStream(payload)), false);
+                merged.merge(snapshot.uuid(), snapshot, (older, newer) -> newer.mergeOlder(older));
+                count++;
+            }
+        } catch (EOFException e) {
+            plugin.getLogger().warning("[Journal] " + file.getName() + " 마지막 레코드가 잘려 있어 무시합니다. (기록 중 종료)");
+        } catch (IOException | IllegalArgumentException e) {
+            plugin.getLogger().warning("[Journal] " + file.getName() + " 손상 - " + count + "건까지만 복구: " + e.getMessage());
+        }
+        return count;
+    }
+
+    // ==================== 기록 ====================
+
+    /**
+     * 기록을 시작합니다. 남은 세그먼트 다음 번호로 새 세그먼트를 엽니다.
+     */
+    public void start() {
+        long next = 1;
+        for (File file : listSegments()) {
+            next = Math.max(next, segmentNumber(file) + 1);
+        }
+        long first = next;
+        submit(() -> openSegment(first));
+    }
+
+    /**
+     * 스냅샷을 저널에 추가합니다. 목록이 비어 있어도 동기화 주기 확인을 위해 호출합니다.
+     *
+     * @param snapshots 기록할 스냅샷 (메인 스레드에서 생성)
+     */
+    public void append(List<UserSnapshot> snapshots) {
+        submit(() -> {
+            if (channel == null) {
+                return;
+            }
+            try {
+                if (!snapshots.isEmpty()) {
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream(snapshots.size() * 256);
+                    DataOutputStream out = new DataOutputStream(buffer);
+                    CRC32 crc = new CRC32();
+                    for (UserSnapshot snapshot : snapshots) {
+                        ByteArrayOutputStream record = new ByteArrayOutputStream(128);
+                        UserDataCodec.writeSnapshot(new DataOutputStream(record), snapshot);
+                        byte[] payload = record.toByteArray();
+                        crc.reset();
+                        crc.update(payload);
+                        out.writeInt(payload.length);
+                        out.writeInt((int) crc.getValue());
+                        out.write(payload);
+                    }
+                    writeFully(ByteBuffer.wrap(buffer.toByteArray()));
+                    unsynced = true;
+                }
+
+                long now = System.currentTimeMillis();
+                if (unsynced && now - lastSync >= fsyncIntervalMillis) {
+                    sync();
+                }
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "[Journal] 저널 기록 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 새 세그먼트로 넘어갑니다.
+     *
+     * @return 새 세그먼트 번호 (이보다 작은 세그먼트는 이후 삭제 대상)
+     */
+    public CompletableFuture<Long> rotate() {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        if (!submit(() -> {
+            closeSegment();
+            openSegment(segment + 1);
+            future.complete(segment);
+        })) {
+            future.completeExceptionally(new IllegalStateException("저널이 닫혔습니다."));
+        }
+        return future;
+    }
+
+    /**
+     * 지정한 번호보다 작은 세그먼트를 삭제합니다. (해당 변경 사항이 DB에 반영된 후 호출)
+     *
+     * @param segmentNumber 기준 세그먼트 번호
+     */
+    public void truncateBefore(long segmentNumber) {
+        submit(() -> {
+            int deleted = 0;
+            for (File file : listSegments()) {
+                if (segmentNumber(file) < segmentNumber && file.delete()) {
+                    deleted++;
+                }
+            }
+            if (plugin.isDebugMode() && deleted > 0) {
+                plugin.getLogger().info("[Journal] DB 반영 완료 - 세그먼트 " + deleted + "개 삭제");
+            }
+        });
+    }
+
+    /**
+     * 저널을 닫습니다.
+     *
+     * @param clean 모든 변경 사항이 DB에 반영되었으면 true (세그먼트 삭제)
+     */
+    public void close(boolean clean) {
+        submit(() -> {
+            closeSegment();
+            if (clean) {
+                for (File file : listSegments()) {
+                    file.delete();
+                }
+            } else {
+                plugin.getLogger().warning("[Journal] 저장되지 않은 변경 사항이 저널에 남아 있습니다. 다음 시작 시 복구됩니다.");
+            }
+        });
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 저널 스레드에 작업을 등록합니다. 이미 닫힌 경우 무시합니다.
+     *
+     * @return 등록 여부
+     */
+    private boolean submit(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // ==================== 파일 ====================
+
+    private void openSegment(long number) {
+        segment = number;
+        File file = segmentFile(number);
+        try {
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            writeFully(ByteBuffer.allocate(4).putInt(0, MAGIC));
+            sync();
+        } catch (IOException e) {
+            channel = null;
+            plugin.getLogger().log(Level.SEVERE, "[Journal] 저널 파일을 열 수 없습니다: " + file.getName(), e);
+        }
+    }
+
+    private void closeSegment() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            sync();
+            channel.close();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "[Journal] 저널 파일 닫기 실패", e);
+        }
+        channel = null;
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void sync() throws IOException {
+        channel.force(false);
+        lastSync = System.currentTimeMillis();
+        unsynced = false;
+    }
+
+    private File segmentFile(long number) {
+        return new File(directory, PREFIX + number + SUFFIX);
+    }
+
+    private List<File> listSegments() {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(PREFIX) && name.endsWith(SUFFIX));
+        if (files == null) {
+            return List.of();
+        }
+        List<File> result = new ArrayList<>(Arrays.asList(files));
+        result.removeIf(file -> segmentNumber(file) < 0);
+        result.sort(Comparator.comparingLong(UserJournal::segmentNumber));
+        return result;
+    }
+
+    private static long segmentNumber(File file) {
+        String name = file.getName();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
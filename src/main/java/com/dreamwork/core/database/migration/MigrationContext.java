@@ -0,0 +1,234 @@
+package com.dreamwork.core.database.migration;
+
+import com.dreamwork.core.DreamWorkCore;
+import com.dreamwork.core.database.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 마이그레이션 실행 환경
+ * <p>
+ * 단순 DDL 실행과 컬럼 확인, 그리고 대량 데이터 변환을 위한
+ * 병렬 배치 처리({@link #forEachBatch(String, List, BatchTask)})를 제공합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public final class MigrationContext {
+
+    /**
+     * 배치 단위 작업
+     *
+     * @param <T> 항목 타입
+     */
+    @FunctionalInterface
+    public interface BatchTask<T> {
+        /**
+         * 배치 하나를 처리합니다. (작업 스레드에서 호출)
+         *
+         * @param batch 항목 목록
+         * @throws SQLException 실패 시 (전체 작업 중단)
+         */
+        void process(List<T> batch) throws SQLException;
+    }
+
+    /** 진행률 로그 간격 (%) */
+    private static final int PROGRESS_STEP = 10;
+
+    private final DreamWorkCore plugin;
+    private final DatabaseManager database;
+    private final int parallelism;
+    private final int batchSize;
+
+    MigrationContext(DreamWorkCore plugin, DatabaseManager database, int parallelism, int batchSize) {
+        this.plugin = plugin;
+        this.database = database;
+        this.parallelism = Math.max(1, parallelism);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public DreamWorkCore getPlugin() {
+        return plugin;
+    }
+
+    public DatabaseManager getDatabase() {
+        return database;
+    }
+
+    /**
+     * 대용량 바이너리 컬럼 타입을 반환합니다.
+     *
+     * @return SQLite는 BLOB, MySQL은 MEDIUMBLOB
+     */
+    public String blobType() {
+        return database.isUsingSqlite() ? "BLOB" : "MEDIUMBLOB";
+    }
+
+    /**
+     * 쓰기 연결에서 SQL 문을 실행합니다.
+     *
+     * @param sql SQL 문
+     * @throws SQLException 실행 실패 시
+     */
+    public void execute(String sql) throws SQLException {
+        try (Connection conn = database.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    /**
+     * 컬럼 존재 여부를 확인합니다.
+     *
+     * @param table  테이블 이름
+     * @param column 컬럼 이름
+     * @return 존재하면 true
+     * @throws SQLException 조회 실패 시
+     */
+    public boolean columnExists(String table, String column) throws SQLException {
+        try (Connection conn = database.getConnection()) {
+            DatabaseMetaData meta = conn.getMetaData();
+            try (ResultSet rs = meta.getColumns(null, null, table, column)) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * 컬럼이 없으면 추가합니다.
+     *
+     * @param table      테이블 이름
+     * @param column     컬럼 이름
+     * @param definition 컬럼 타입 및 기본값
+     * @throws SQLException 실행 실패 시
+     */
+    public void addColumnIfMissing(String table, String column, String definition) throws SQLException {
+        if (!columnExists(table, column)) {
+            execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+            log(table + "." + column + " 컬럼 추가 완료");
+        }
+    }
+
+    /**
+     * 인덱스 존재 여부를 확인합니다.
+     *
+     * @param table 테이블 이름
+     * @param index 인덱스 이름
+     * @return 존재하면 true
+     * @throws SQLException 조회 실패 시
+     */
+    public boolean indexExists(String table, String index) throws SQLException {
+        try (Connection conn = database.getConnection()) {
+            DatabaseMetaData meta = conn.getMetaData();
+            try (ResultSet rs = meta.getIndexInfo(null, null, table, false, true)) {
+                while (rs.next()) {
+                    if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 인덱스가 없으면 생성합니다.
+     * <p>
+     * MySQL에는 {@code CREATE INDEX IF NOT EXISTS}가 없으므로 메타데이터로 확인합니다.
+     * 이전 실행이 인덱스 생성 후 중단되었어도 다시 실행할 수 있습니다.
+     * </p>
+     *
+     * @param table   테이블 이름
+     * @param index   인덱스 이름
+     * @param columns 인덱스 컬럼 (예: {@code "job_id, level DESC"})
+     * @throws SQLException 실행 실패 시
+     */
+    public void createIndexIfMissing(String table, String index, String columns) throws SQLException {
+        if (!indexExists(table, index)) {
+            execute("CREATE INDEX " + index + " ON " + table + " (" + columns + ")");
+            log(table + "." + index + " 인덱스 추가 완료");
+        }
+    }
+
+    /**
+     * 항목을 배치로 나누어 여러 스레드에서 병렬 처리합니다.
+     * 진행률은 {@value #PROGRESS_STEP}% 단위로 로그에 남깁니다.
+     *
+     * @param label 로그에 표시할 작업 이름
+     * @param items 처리할 항목
+     * @param task  배치 작업
+     * @param <T>   항목 타입
+     * @throws SQLException 배치 하나라도 실패하면 (남은 배치는 취소됨)
+     */
+    public <T> void forEachBatch(String label, List<T> items, BatchTask<T> task) throws SQLException {
+        int total = items.size();
+        if (total == 0) {
+            return;
+        }
+
+        log(label + " 시작: " + total + "건 (배치 " + batchSize + ", 스레드 " + parallelism + ")");
+
+        AtomicInteger done = new AtomicInteger();
+        AtomicInteger lastLogged = new AtomicInteger();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "DreamWork-Migration-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < total; from += batchSize) {
+                List<T> batch = items.subList(from, Math.min(total, from + batchSize));
+                futures.add(executor.submit(() -> {
+                    task.process(batch);
+                    reportProgress(label, done.addAndGet(batch.size()), total, lastLogged);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException(label + " 실패: " + cause, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(label + " 중단됨", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void reportProgress(String label, int done, int total, AtomicInteger lastLogged) {
+        int step = (int) ((long) done * 100 / total) / PROGRESS_STEP * PROGRESS_STEP;
+        int previous = lastLogged.get();
+        if (step > previous && lastLogged.compareAndSet(previous, step)) {
+            log(label + " 진행: " + done + "/" + total + " (" + step + "%)");
+        }
+    }
+
+    /**
+     * 마이그레이션 로그를 남깁니다.
+     *
+     * @param message 메시지
+     */
+    public void log(String message) {
+        plugin.getLogger().info("[Migration] " + message);
+    }
+}
@@ -0,0 +1,39 @@
+package com.dreamwork.core.database.migration;
+
+import java.sql.SQLException;
+
+/**
+ * 스키마 마이그레이션 단계
+ * <p>
+ * 버전은 1부터 증가하며 한 번 배포된 버전의 내용은 바꾸지 않습니다.
+ * 변경이 필요하면 새 버전을 추가합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public interface SchemaMigration {
+
+    /**
+     * 스키마 버전을 반환합니다.
+     *
+     * @return 버전 (1 이상, 중복 불가)
+     */
+    int version();
+
+    /**
+     * 로그와 버전 테이블에 기록할 설명을 반환합니다.
+     *
+     * @return 설명
+     */
+    String description();
+
+    /**
+     * 마이그레이션을 수행합니다.
+     * 도중에 실패해도 다시 실행할 수 있도록 작성해야 합니다.
+     *
+     * @param context 마이그레이션 컨텍스트
+     * @throws SQLException 실패 시 (이후 버전은 적용되지 않음)
+     */
+    void migrate(MigrationContext context) throws SQLException;
+}
@@ -0,0 +1,137 @@
+package com.dreamwork.core.database.migration;
+
+import com.dreamwork.core.DreamWorkCore;
+import com.dreamwork.core.database.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 버전 기반 스키마 마이그레이션 실행기
+ * <p>
+ * {@code dw_schema_version} 테이블에 적용된 버전을 기록하고,
+ * 그보다 높은 버전의 {@link SchemaMigration}만 순서대로 실행합니다.
+ * 한 단계가 실패하면 이후 단계는 적용하지 않고 예외를 던지며 (플러그인 비활성화),
+ * 다음 기동 시 실패한 단계부터 다시 시도합니다.
+ * </p>
+ * <p>
+ * 데이터 변환 단계는 현재 저장소 코드로 행을 다시 저장하므로, 현재 저장 로직이 기록하는 컬럼은
+ * 어떤 단계보다도 먼저 추가합니다. (해당 컬럼을 추가하는 단계보다 낮은 버전에서 올라오는 경우)
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class SchemaMigrator {
+
+    private static final String VERSION_TABLE = "dw_schema_version";
+
+    /** 등록된 마이그레이션 (새 단계는 끝에 추가) */
+    private static final List<SchemaMigration> MIGRATIONS = List.of(
+            new V1LegacyColumns(),
+            new V2RankingIndexes(),
+            new V3BinaryBackfill(),
+            new V4LastSeenColumn(),
+            new V5CanonicalJobTable());
+
+    /** 현재 저장 로직이 기록하는 컬럼 {테이블, 컬럼, 정의} - 대기 중인 단계보다 먼저 보장 */
+    private static final String[][] WRITE_COLUMNS = {
+            { "dw_users", "last_seen", "BIGINT" },
+            { "dw_jobs", "total_exp", "DOUBLE DEFAULT 0.0" }
+    };
+
+    private final DreamWorkCore plugin;
+    private final DatabaseManager database;
+
+    public SchemaMigrator(DreamWorkCore plugin, DatabaseManager database) {
+        this.plugin = plugin;
+        this.database = database;
+    }
+
+    /**
+     * 적용되지 않은 마이그레이션을 모두 실행합니다. (기동 시 1회)
+     *
+     * @throws SQLException 한 단계라도 실패하면 (이후 단계는 적용하지 않음)
+     */
+    public void migrate() throws SQLException {
+        MigrationContext context = new MigrationContext(plugin, database,
+                plugin.getConfig().getInt("database.migration.parallelism", 4),
+                plugin.getConfig().getInt("database.migration.batch-size", 500));
+
+        try {
+            ensureVersionTable();
+            int current = currentVersion();
+
+            List<SchemaMigration> pending = new ArrayList<>();
+            for (SchemaMigration migration : MIGRATIONS) {
+                if (migration.version() > current) {
+                    pending.add(migration);
+                }
+            }
+            pending.sort(Comparator.comparingInt(SchemaMigration::version));
+
+            if (pending.isEmpty()) {
+                if (plugin.isDebugMode()) {
+                    plugin.getLogger().info("[Migration] 스키마 최신 상태 (v" + current + ")");
+                }
+                return;
+            }
+
+            for (String[] column : WRITE_COLUMNS) {
+                context.addColumnIfMissing(column[0], column[1], column[2]);
+            }
+
+            context.log("현재 스키마 v" + current + " → v" + pending.get(pending.size() - 1).version()
+                    + " (" + pending.size() + "단계)");
+
+            for (SchemaMigration migration : pending) {
+                long start = System.currentTimeMillis();
+                context.log("v" + migration.version() + " 적용 중: " + migration.description());
+
+                migration.migrate(context);
+                recordVersion(migration);
+
+                context.log("v" + migration.version() + " 완료 (" + (System.currentTimeMillis() - start) + "ms)");
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().severe("[Migration] 스키마 마이그레이션 실패 - 이후 단계를 중단합니다: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private void ensureVersionTable() throws SQLException {
+        try (Connection conn = database.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                    CREATE TABLE IF NOT EXISTS dw_schema_version (
+                        version INT PRIMARY KEY,
+                        description VARCHAR(128),
+                        applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                    )
+                    """);
+        }
+    }
+
+    private int currentVersion() throws SQLException {
+        try (Connection conn = database.getConnection();
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT MAX(version) FROM " + VERSION_TABLE)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private void recordVersion(SchemaMigration migration) throws SQLException {
+        try (Connection conn = database.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(
+                        "INSERT INTO " + VERSION_TABLE + " (version, description) VALUES (?, ?)")) {
+            pstmt.setInt(1, migration.version());
+            pstmt.setString(2, migration.description());
+            pstmt.executeUpdate();
+        }
+    }
+}
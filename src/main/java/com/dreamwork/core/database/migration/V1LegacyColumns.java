@@ -0,0 +1,37 @@
+package com.dreamwork.core.database.migration;
+
+import java.sql.SQLException;
+
+/**
+ * v1: 버전 관리 도입 이전에 매 기동마다 확인하던 dw_users 컬럼 추가
+ * <p>
+ * 버전 테이블이 없던 기존 DB는 이 단계에서 최신 컬럼 구성을 갖춥니다.
+ * 신규 DB는 테이블 생성 시 이미 모든 컬럼이 있으므로 아무것도 하지 않습니다.
+ * </p>
+ */
+final class V1LegacyColumns implements SchemaMigration {
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public String description() {
+        return "dw_users 누락 컬럼 추가";
+    }
+
+    @Override
+    public void migrate(MigrationContext context) throws SQLException {
+        context.addColumnIfMissing("dw_users", "job_data", "TEXT");
+        context.addColumnIfMissing("dw_users", "phase1_data", "TEXT");
+        context.addColumnIfMissing("dw_users", "money", "DOUBLE DEFAULT 0.0");
+        // 처치 수를 phase1_data에서 분리
+        context.addColumnIfMissing("dw_users", "kill_data", "TEXT");
+        // 탐험 청크 및 바이너리 코덱 컬럼
+        context.addColumnIfMissing("dw_users", "chunk_data", context.blobType());
+        context.addColumnIfMissing("dw_users", "job_blob", context.blobType());
+        context.addColumnIfMissing("dw_users", "quest_blob", context.blobType());
+        context.addColumnIfMissing("dw_users", "kill_blob", context.blobType());
+    }
+}
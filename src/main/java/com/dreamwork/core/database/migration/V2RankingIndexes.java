@@ -0,0 +1,29 @@
+package com.dreamwork.core.database.migration;
+
+import java.sql.SQLException;
+
+/**
+ * v2: dw_jobs 랭킹 인덱스
+ * <p>
+ * 전체 랭킹 조회({@code ORDER BY level DESC, exp DESC})와 직업별 랭킹 조회가
+ * 테이블 전체를 정렬하지 않고 인덱스 순서대로 읽도록 합니다.
+ * </p>
+ */
+final class V2RankingIndexes implements SchemaMigration {
+
+    @Override
+    public int version() {
+        return 2;
+    }
+
+    @Override
+    public String description() {
+        return "dw_jobs 랭킹 인덱스 추가";
+    }
+
+    @Override
+    public void migrate(MigrationContext context) throws SQLException {
+        context.createIndexIfMissing("dw_jobs", "idx_dw_jobs_rank", "level DESC, exp DESC");
+        context.createIndexIfMissing("dw_jobs", "idx_dw_jobs_job_rank", "job_id, level DESC, exp DESC");
+    }
+}
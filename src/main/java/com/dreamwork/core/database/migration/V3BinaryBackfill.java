@@ -0,0 +1,72 @@
+package com.dreamwork.core.database.migration;
+
+import com.dreamwork.core.database.repository.UserRepository;
+import com.dreamwork.core.model.UserData;
+import com.dreamwork.core.model.UserSnapshot;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * v3: 구버전 JSON 컬럼(job_data, quest_data, kill_data, phase1_data)을 바이너리 컬럼으로 일괄 변환
+ * <p>
+ * 유저 저장소의 로드 로직이 구버전 데이터를 읽으면 해당 구역을 더티로 표시하므로,
+ * 그 결과를 그대로 저장하면 바이너리로 옮겨지고 JSON 컬럼은 비워집니다.
+ * 접속하지 않는 유저의 행도 한 번에 정리되어, 이후 로드 경로에서 JSON 파싱이 사라집니다.
+ * </p>
+ */
+final class V3BinaryBackfill implements SchemaMigration {
+
+    private static final String LEGACY_ROWS_SQL = "SELECT uuid, name FROM dw_users "
+            + "WHERE job_data IS NOT NULL OR quest_data IS NOT NULL "
+            + "OR kill_data IS NOT NULL OR phase1_data IS NOT NULL";
+
+    @Override
+    public int version() {
+        return 3;
+    }
+
+    @Override
+    public String description() {
+        return "구버전 JSON 데이터를 바이너리 컬럼으로 변환";
+    }
+
+    @Override
+    public void migrate(MigrationContext context) throws SQLException {
+        List<String[]> rows = new ArrayList<>();
+        try (Connection conn = context.getDatabase().getReadConnection();
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery(LEGACY_ROWS_SQL)) {
+            while (rs.next()) {
+                rows.add(new String[] { rs.getString("uuid"), rs.getString("name") });
+            }
+        }
+
+        UserRepository repository = context.getDatabase().getUserRepository();
+        context.forEachBatch("JSON → 바이너리 변환", rows, batch -> {
+            List<UserSnapshot> snapshots = new ArrayList<>(batch.size());
+            for (String[] row : batch) {
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(row[0]);
+                } catch (IllegalArgumentException e) {
+                    context.log("잘못된 UUID 행 건너뜀: " + row[0]);
+                    continue;
+                }
+
+                UserData user = repository.load(uuid, row[1]);
+                if (user.isDirty()) {
+                    snapshots.add(UserSnapshot.of(user));
+                }
+            }
+            if (!snapshots.isEmpty()) {
+                repository.saveAll(snapshots);
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.dreamwork.core.database.migration;
+
+import java.sql.SQLException;
+
+/**
+ * v4: dw_users에 마지막 저장 시각(last_seen, epoch ms) 컬럼 추가
+ * <p>
+ * 프로필 구역이 저장될 때마다 갱신되며, 장기 미접속 계정 정리에 사용합니다.
+ * 기존 행은 마지막 접속 시각을 알 수 없으므로 마이그레이션 시각으로 채웁니다.
+ * 이후 다시 접속하지 않은 계정은 이 시점부터 정리 기간이 지나면 정리 대상이 됩니다.
+ * </p>
+ */
+final class V4LastSeenColumn implements SchemaMigration {
+
+    @Override
+    public int version() {
+        return 4;
+    }
+
+    @Override
+    public String description() {
+        return "dw_users 마지막 저장 시각 컬럼 추가";
+    }
+
+    @Override
+    public void migrate(MigrationContext context) throws SQLException {
+        context.addColumnIfMissing("dw_users", "last_seen", "BIGINT");
+        context.execute("UPDATE dw_users SET last_seen = " + System.currentTimeMillis() + " WHERE last_seen IS NULL");
+    }
+}
@@ -0,0 +1,74 @@
+package com.dreamwork.core.database.migration;
+
+import com.dreamwork.core.database.repository.UserRepository;
+import com.dreamwork.core.model.UserData;
+import com.dreamwork.core.model.UserSnapshot;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * v5: dw_jobs를 직업 데이터의 원본으로 전환
+ * <p>
+ * 누적 경험치(total_exp) 컬럼과 인덱스를 추가하고, dw_users.job_blob에만 온전히 남아 있던
+ * 직업 데이터를 dw_jobs 행으로 옮깁니다. 유저 저장소의 로드 로직이 job_blob을 읽으면
+ * 직업 구역을 더티로 표시하므로, 그 결과를 저장하면 dw_jobs가 기록되고 job_blob은 비워집니다.
+ * </p>
+ */
+final class V5CanonicalJobTable implements SchemaMigration {
+
+    private static final String LEGACY_ROWS_SQL = "SELECT uuid, name FROM dw_users "
+            + "WHERE job_blob IS NOT NULL OR job_data IS NOT NULL";
+
+    @Override
+    public int version() {
+        return 5;
+    }
+
+    @Override
+    public String description() {
+        return "dw_jobs를 직업 데이터 원본으로 전환";
+    }
+
+    @Override
+    public void migrate(MigrationContext context) throws SQLException {
+        context.addColumnIfMissing("dw_jobs", "total_exp", "DOUBLE DEFAULT 0.0");
+        context.createIndexIfMissing("dw_jobs", "idx_dw_jobs_job_total", "job_id, total_exp DESC");
+
+        List<String[]> rows = new ArrayList<>();
+        try (Connection conn = context.getDatabase().getReadConnection();
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery(LEGACY_ROWS_SQL)) {
+            while (rs.next()) {
+                rows.add(new String[] { rs.getString("uuid"), rs.getString("name") });
+            }
+        }
+
+        UserRepository repository = context.getDatabase().getUserRepository();
+        context.forEachBatch("job_blob → dw_jobs 변환", rows, batch -> {
+            List<UserSnapshot> snapshots = new ArrayList<>(batch.size());
+            for (String[] row : batch) {
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(row[0]);
+                } catch (IllegalArgumentException e) {
+                    context.log("잘못된 UUID 행 건너뜀: " + row[0]);
+                    continue;
+                }
+
+                UserData user = repository.load(uuid, row[1]);
+                if (user.isDirty()) {
+                    snapshots.add(UserSnapshot.of(user));
+                }
+            }
+            if (!snapshots.isEmpty()) {
+                repository.saveAll(snapshots);
+            }
+        });
+    }
+}
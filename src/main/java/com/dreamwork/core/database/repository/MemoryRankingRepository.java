@@ -0,0 +1,45 @@
+package com.dreamwork.core.database.repository;
+
+import com.dreamwork.core.job.JobInfo;
+import com.dreamwork.core.job.JobType;
+import com.dreamwork.core.model.UserSnapshot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리 랭킹 저장소
+ * <p>
+ * {@link MemoryUserRepository}에 저장된 스냅샷에서 직접 랭킹을 계산합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class MemoryRankingRepository implements RankingRepository {
+
+    private static final Comparator<Row> ORDER = Comparator.comparingInt(Row::level).reversed()
+            .thenComparing(Comparator.comparingDouble(Row::exp).reversed());
+
+    private final MemoryUserRepository users;
+
+    public MemoryRankingRepository(MemoryUserRepository users) {
+        this.users = users;
+    }
+
+    @Override
+    public List<Row> fetchTop(int limit) {
+        List<Row> rows = new ArrayList<>();
+        for (UserSnapshot user : users.rows()) {
+            for (Map.Entry<JobType, JobInfo> entry : user.jobs().entrySet()) {
+                JobInfo info = entry.getValue();
+                rows.add(new Row(user.uuid(), user.name(), entry.getKey().getConfigKey(),
+                        info.getLevel(), info.getCurrentExp()));
+            }
+        }
+        rows.sort(ORDER);
+        return rows.size() > limit ? new ArrayList<>(rows.subList(0, limit)) : rows;
+    }
+}
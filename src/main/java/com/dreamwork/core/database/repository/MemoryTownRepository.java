@@ -0,0 +1,48 @@
+package com.dreamwork.core.database.repository;
+
+import com.dreamwork.core.town.TownInfo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 메모리 마을 저장소 (DB 없음)
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class MemoryTownRepository implements TownRepository {
+
+    private final Map<Integer, TownInfo> towns = new LinkedHashMap<>();
+    private int nextId = 1;
+
+    @Override
+    public synchronized List<TownInfo> loadAll() {
+        return new ArrayList<>(towns.values());
+    }
+
+    @Override
+    public synchronized int create(String name, UUID owner) {
+        for (TownInfo town : towns.values()) {
+            if (town.name().equals(name)) {
+                return -1;
+            }
+        }
+        int id = nextId++;
+        towns.put(id, new TownInfo(id, name, owner.toString(), 0.0));
+        return id;
+    }
+
+    @Override
+    public synchronized void saveBalances(Map<Integer, Double> balances) {
+        balances.forEach((townId, balance) -> {
+            TownInfo town = towns.get(townId);
+            if (town != null) {
+                towns.put(townId, new TownInfo(town.id(), town.name(), town.ownerUuid(), balance));
+            }
+        });
+    }
+}
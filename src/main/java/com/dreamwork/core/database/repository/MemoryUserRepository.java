@@ -0,0 +1,96 @@
+package com.dreamwork.core.database.repository;
+
+import com.dreamwork.core.model.UserData;
+import com.dreamwork.core.model.UserSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 유저 저장소 (DB 없음)
+ * <p>
+ * 저장된 스냅샷을 UUID별로 합쳐 보관합니다. 서버가 종료되면 데이터는 사라지므로
+ * 테스트나 부하 시뮬레이션처럼 I/O 영향을 배제해야 할 때만 사용합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class MemoryUserRepository implements UserRepository {
+
+    /** 유저별 최신 전체 스냅샷 */
+    private final Map<UUID, UserSnapshot> rows = new ConcurrentHashMap<>();
+
+    /** 유저별 마지막 저장 시각 (epoch ms) */
+    private final Map<UUID, Long> lastSeen = new ConcurrentHashMap<>();
+
+    @Override
+    public UserData load(UUID uuid, String name) {
+        UserData user = new UserData(uuid, name);
+        UserSnapshot row = rows.get(uuid);
+        if (row == null) {
+            return user;
+        }
+
+        user.setPersisted(true);
+        row.applyTo(user);
+        user.clearDirty();
+        return user;
+    }
+
+    @Override
+    public void saveAll(List<UserSnapshot> batch) {
+        for (UserSnapshot snapshot : batch) {
+            // 부분 스냅샷은 기존 전체 스냅샷 위에 변경 구역만 덮어씀
+            rows.merge(snapshot.uuid(), snapshot, (stored, newer) -> newer.mergeOlder(stored));
+            lastSeen.put(snapshot.uuid(), System.currentTimeMillis());
+        }
+    }
+
+    @Override
+    public List<UserData> loadPage(String afterUuid, int limit) {
+        List<UserData> page = new ArrayList<>();
+        rows.keySet().stream()
+                .map(UUID::toString)
+                .filter(key -> afterUuid == null || key.compareTo(afterUuid) > 0)
+                .sorted()
+                .limit(limit)
+                .forEach(key -> {
+                    UUID uuid = UUID.fromString(key);
+                    page.add(load(uuid, rows.get(uuid).name()));
+                });
+        return page;
+    }
+
+    @Override
+    public int deleteInactive(long lastSeenBefore, Collection<UUID> exclude) {
+        int deleted = 0;
+        for (Map.Entry<UUID, Long> entry : lastSeen.entrySet()) {
+            UUID uuid = entry.getKey();
+            if (entry.getValue() < lastSeenBefore && !exclude.contains(uuid)) {
+                rows.remove(uuid);
+                lastSeen.remove(uuid);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void compact() {
+        // 구버전 데이터가 없으므로 할 일 없음
+    }
+
+    /**
+     * 저장된 모든 유저의 스냅샷을 반환합니다. (랭킹 계산용)
+     *
+     * @return 스냅샷 목록 (읽기 전용 뷰)
+     */
+    Collection<UserSnapshot> rows() {
+        return rows.values();
+    }
+}
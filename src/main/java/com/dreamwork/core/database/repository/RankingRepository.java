@@ -0,0 +1,39 @@
+package com.dreamwork.core.database.repository;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 직업 랭킹 저장소
+ * <p>
+ * 랭킹 행은 유저 저장 시 {@link UserRepository}가 함께 기록하며,
+ * 이 인터페이스는 조회만 담당합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public interface RankingRepository {
+
+    /**
+     * 직업별 레벨 내림차순, 경험치 내림차순으로 상위 행을 조회합니다.
+     *
+     * @param limit 최대 행 수
+     * @return 랭킹 행 목록
+     * @throws SQLException 조회 실패 시
+     */
+    List<Row> fetchTop(int limit) throws SQLException;
+
+    /**
+     * 랭킹 행 (유저 한 명의 직업 하나)
+     *
+     * @param uuid  플레이어 UUID
+     * @param name  플레이어 이름
+     * @param jobId 직업 설정 키
+     * @param level 직업 레벨
+     * @param exp   현재 레벨의 경험치
+     */
+    record Row(UUID uuid, String name, String jobId, int level, double exp) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.dreamwork.core.database.repository;
+
+import com.dreamwork.core.database.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SQL(SQLite/MySQL) 랭킹 저장소
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class SqlRankingRepository implements RankingRepository {
+
+    private static final String TOP_SQL = "SELECT u.uuid, u.name, j.job_id, j.level, j.exp FROM dw_jobs j "
+            + "JOIN dw_users u ON j.uuid = u.uuid ORDER BY j.level DESC, j.exp DESC LIMIT ?";
+
+    private final DatabaseManager dbManager;
+
+    public SqlRankingRepository(DatabaseManager dbManager) {
+        this.dbManager = dbManager;
+    }
+
+    @Override
+    public List<Row> fetchTop(int limit) throws SQLException {
+        List<Row> rows = new ArrayList<>(limit);
+
+        try (Connection conn = dbManager.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(TOP_SQL)) {
+            pstmt.setInt(1, limit);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    String jobId = rs.getString("job_id");
+                    if (jobId == null || jobId.isEmpty())
+                        continue;
+
+                    rows.add(new Row(
+                            UUID.fromString(rs.getString("uuid")),
+                            rs.getString("name"),
+                            jobId,
+                            rs.getInt("level"),
+                            rs.getDouble("exp")));
+                }
+            }
+        }
+        return rows;
+    }
+}
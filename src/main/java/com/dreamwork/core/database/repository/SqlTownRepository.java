@@ -0,0 +1,104 @@
+package com.dreamwork.core.database.repository;
+
+import com.dreamwork.core.database.DatabaseManager;
+import com.dreamwork.core.town.TownInfo;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SQL(SQLite/MySQL) 마을 저장소 ({@code dw_towns})
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class SqlTownRepository implements TownRepository {
+
+    private final DatabaseManager dbManager;
+
+    public SqlTownRepository(DatabaseManager dbManager) {
+        this.dbManager = dbManager;
+    }
+
+    @Override
+    public List<TownInfo> loadAll() throws SQLException {
+        List<TownInfo> towns = new ArrayList<>();
+        String sql = "SELECT town_id, town_name, owner_uuid, bank_balance FROM dw_towns ORDER BY town_id";
+        try (Connection conn = dbManager.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                towns.add(new TownInfo(
+                        rs.getInt("town_id"),
+                        rs.getString("town_name"),
+                        rs.getString("owner_uuid"),
+                        rs.getDouble("bank_balance")));
+            }
+        }
+        return towns;
+    }
+
+    @Override
+    public int create(String name, UUID owner) throws SQLException {
+        try (Connection conn = dbManager.getConnection()) {
+            // 중복 검사
+            try (PreparedStatement checkStmt = conn
+                    .prepareStatement("SELECT 1 FROM dw_towns WHERE town_name = ?")) {
+                checkStmt.setString(1, name);
+                try (ResultSet rs = checkStmt.executeQuery()) {
+                    if (rs.next()) {
+                        return -1;
+                    }
+                }
+            }
+
+            String sql = "INSERT INTO dw_towns (town_name, owner_uuid, bank_balance) VALUES (?, ?, ?)";
+            try (PreparedStatement insertStmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                insertStmt.setString(1, name);
+                insertStmt.setString(2, owner.toString());
+                insertStmt.setDouble(3, 0.0); // 초기 자금 0
+                insertStmt.executeUpdate();
+                try (ResultSet keys = insertStmt.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        return keys.getInt(1);
+                    }
+                }
+            }
+            throw new SQLException("생성된 마을 ID를 확인할 수 없습니다: " + name);
+        }
+    }
+
+    @Override
+    public void saveBalances(Map<Integer, Double> balances) throws SQLException {
+        if (balances.isEmpty()) {
+            return;
+        }
+        try (Connection conn = dbManager.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement stmt = conn
+                    .prepareStatement("UPDATE dw_towns SET bank_balance = ? WHERE town_id = ?")) {
+                for (Map.Entry<Integer, Double> entry : balances.entrySet()) {
+                    stmt.setDouble(1, entry.getValue());
+                    stmt.setInt(2, entry.getKey());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+}
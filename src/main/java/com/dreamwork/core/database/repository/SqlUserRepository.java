@@ -0,0 +1,741 @@
+package com.dreamwork.core.database.repository;
+
+import com.dreamwork.core.DreamWorkCore;
+import com.dreamwork.core.database.DatabaseManager;
+import com.dreamwork.core.database.StatementCache;
+import com.dreamwork.core.database.UserDataCodec;
+import com.dreamwork.core.job.JobInfo;
+import com.dreamwork.core.job.JobType;
+import com.dreamwork.core.model.ChunkSet;
+import com.dreamwork.core.model.UserData;
+import com.dreamwork.core.model.UserSection;
+import com.dreamwork.core.model.UserSnapshot;
+import com.dreamwork.core.quest.QuestProgress;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * SQL(SQLite/MySQL) 유저 저장소
+ * <p>
+ * {@code dw_users} 테이블에 유저 데이터를, {@code dw_jobs} 테이블에 직업별 레벨/경험치를 기록합니다.
+ * 직업 데이터는 {@code dw_jobs}가 원본이며, 변경된 직업의 행만 갱신합니다.
+ * {@code dw_users}의 job_blob/job_data 컬럼은 구버전 데이터를 읽기 위해서만 남아 있습니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class SqlUserRepository implements UserRepository {
+
+    /** 구버전 JSON 컬럼 폴백용 타입 (매번 TypeToken을 만들지 않도록 캐싱) */
+    private static final Type JOB_MAP_TYPE = new TypeToken<Map<String, JobInfo>>() {
+    }.getType();
+    private static final Type QUEST_MAP_TYPE = new TypeToken<Map<String, QuestProgress>>() {
+    }.getType();
+    private static final Type KILL_MAP_TYPE = new TypeToken<Map<String, Integer>>() {
+    }.getType();
+
+    /** 직업 행 조회 (유저 한 명) */
+    private static final String JOB_ROWS_SQL = "SELECT uuid, job_id, level, exp, total_exp FROM dw_jobs WHERE uuid = ?";
+
+    /** 직업 행 조회 (유저 페이지 - {@link #loadPage}와 같은 범위) */
+    private static final String JOB_PAGE_SQL = "SELECT j.uuid, j.job_id, j.level, j.exp, j.total_exp FROM dw_jobs j "
+            + "JOIN (SELECT uuid FROM dw_users WHERE uuid > ? ORDER BY uuid LIMIT ?) p ON j.uuid = p.uuid";
+
+    /**
+     * 로드 시 읽는 컬럼 (readRow가 사용하는 컬럼만)
+     * 구버전 단일 직업 컬럼(job_id, job_level, job_exp)은 있는 경우에만 추가됩니다.
+     */
+    private static final String USER_COLUMNS = "uuid, name, str, dex, con, intel, luk, stat_points, "
+            + "current_mana, money, last_daily_reset, job_blob, job_data, quest_blob, quest_data, "
+            + "kill_blob, kill_data, chunk_data, phase1_data";
+
+    /** 비활성 유저 삭제 시 한 번에 처리하는 행 수 */
+    private static final int PRUNE_PAGE_SIZE = 500;
+
+    private final DreamWorkCore plugin;
+    private final DatabaseManager dbManager;
+    private final StatementCache statements;
+    private final Gson gson;
+
+    /** 유저 행 조회 SQL (첫 로드 시 컬럼 확인 후 결정) */
+    private volatile String userRowSql;
+    private volatile String userPageSql;
+
+    public SqlUserRepository(DreamWorkCore plugin, DatabaseManager dbManager) {
+        this.plugin = plugin;
+        this.dbManager = dbManager;
+        this.statements = dbManager.getStatementCache();
+        this.gson = new GsonBuilder()
+                .enableComplexMapKeySerialization()
+                .create();
+    }
+
+    /**
+     * 조회 SQL을 준비합니다. 구버전 단일 직업 컬럼이 남아 있는 DB에서만 해당 컬럼을 함께 읽습니다.
+     */
+    private void resolveUserSql(Connection conn) throws SQLException {
+        if (userRowSql != null) {
+            return;
+        }
+        String columns = USER_COLUMNS;
+        try (ResultSet rs = conn.getMetaData().getColumns(null, null, "dw_users", "job_id")) {
+            if (rs.next()) {
+                columns += ", job_id, job_level, job_exp";
+            }
+        }
+        userPageSql = "SELECT " + columns + " FROM dw_users WHERE uuid > ? ORDER BY uuid LIMIT ?";
+        userRowSql = "SELECT " + columns + " FROM dw_users WHERE uuid = ?";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UserData load(UUID uuid, String name) throws SQLException {
+        try (Connection conn = dbManager.getReadConnection()) {
+            resolveUserSql(conn);
+            PreparedStatement jobStmt = statements.prepare(conn, JOB_ROWS_SQL);
+            jobStmt.setString(1, uuid.toString());
+            Map<String, Map<JobType, JobInfo>> jobRows = readJobRows(jobStmt);
+
+            PreparedStatement pstmt = statements.prepare(conn, userRowSql);
+            pstmt.setString(1, uuid.toString());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                UserData user = rs.next()
+                        ? readRow(rs, uuid, name, jobRows.get(uuid.toString()))
+                        : new UserData(uuid, name);
+                if (plugin.isDebugMode()) {
+                    plugin.getLogger().info("[Storage] 유저 데이터 로드 완료: " + name);
+                }
+                return user;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * UUID 문자열 순서의 키셋 페이지네이션이므로 페이지 크기만큼만 메모리를 사용합니다.
+     * </p>
+     */
+    @Override
+    public List<UserData> loadPage(String afterUuid, int limit) throws SQLException {
+        List<UserData> page = new ArrayList<>(limit);
+        String after = afterUuid != null ? afterUuid : "";
+        try (Connection conn = dbManager.getReadConnection()) {
+            resolveUserSql(conn);
+            // 페이지 전체의 직업 행을 한 번에 읽음 (유저마다 조회하지 않음)
+            PreparedStatement jobStmt = statements.prepare(conn, JOB_PAGE_SQL);
+            jobStmt.setString(1, after);
+            jobStmt.setInt(2, limit);
+            Map<String, Map<JobType, JobInfo>> jobRows = readJobRows(jobStmt);
+
+            PreparedStatement pstmt = statements.prepare(conn, userPageSql);
+            pstmt.setString(1, after);
+            pstmt.setInt(2, limit);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    String key = rs.getString("uuid");
+                    UUID uuid;
+                    try {
+                        uuid = UUID.fromString(key);
+                    } catch (IllegalArgumentException e) {
+                        plugin.getLogger().warning("[Storage] 잘못된 UUID 행 건너뜀: " + key);
+                        continue;
+                    }
+                    page.add(readRow(rs, uuid, rs.getString("name"), jobRows.get(key)));
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 직업 행을 UUID별로 읽습니다.
+     */
+    private Map<String, Map<JobType, JobInfo>> readJobRows(PreparedStatement pstmt) throws SQLException {
+        Map<String, Map<JobType, JobInfo>> result = new HashMap<>();
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                JobType jobType = JobType.fromConfigKey(rs.getString("job_id"));
+                if (jobType == null) {
+                    continue;
+                }
+                result.computeIfAbsent(rs.getString("uuid"), k -> new EnumMap<>(JobType.class))
+                        .put(jobType, new JobInfo(rs.getInt("level"), rs.getDouble("exp"), rs.getDouble("total_exp")));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 현재 행을 유저 데이터로 복원합니다.
+     * <p>
+     * 바이너리 블롭 컬럼을 우선 읽고, 없으면 구버전 JSON 컬럼에서 읽은 뒤
+     * 해당 구역을 더티로 표시하여 다음 저장 때 새 형식으로 옮깁니다.
+     * 직업은 구버전 컬럼(job_blob, job_data)에 값이 남아 있으면 그 값을, 없으면 dw_jobs 행을 사용합니다.
+     * </p>
+     *
+     * @param jobRows 이 유저의 dw_jobs 행 (없으면 null)
+     */
+    private UserData readRow(ResultSet rs, UUID uuid, String name, Map<JobType, JobInfo> jobRows)
+            throws SQLException {
+        UserData user = new UserData(uuid, name);
+        user.setPersisted(true);
+        boolean jobsMigrated = false;
+        boolean questsMigrated = false;
+        boolean killsMigrated = false;
+        boolean chunksMigrated = false;
+
+        // 직업 데이터 로드 (구버전 job_blob → JSON → dw_jobs → 구버전 단일 직업 순)
+        // 구버전 컬럼은 dw_jobs로 옮겨질 때 비워지므로, 값이 있으면 아직 옮겨지지 않은 데이터
+        byte[] jobBlob = rs.getBytes("job_blob");
+        String jobData = rs.getString("job_data");
+        if (jobBlob != null && jobBlob.length > 0) {
+            decodeInto(jobBlob, UserDataCodec::decodeJobs, user::setJobs, name);
+            jobsMigrated = true;
+        } else if (jobData != null && !jobData.isEmpty()) {
+            Map<JobType, JobInfo> jobs = deserializeJobData(jobData);
+            if (jobs != null) {
+                user.setJobs(jobs);
+                jobsMigrated = true;
+            }
+        } else if (jobRows != null && !jobRows.isEmpty()) {
+            user.getJobs().putAll(jobRows);
+        } else {
+            jobsMigrated = migrateOldJobData(rs, user);
+        }
+
+        // 스탯 데이터 로드
+        user.setStr(rs.getInt("str"));
+        user.setStr(rs.getInt("str"));
+        user.setDex(rs.getInt("dex"));
+        user.setCon(rs.getInt("con"));
+        user.setIntel(rs.getInt("intel"));
+        user.setLuk(rs.getInt("luk"));
+        user.setStatPoints(rs.getInt("stat_points"));
+
+        // 마나 로드
+        try {
+            user.setCurrentMana(rs.getDouble("current_mana"));
+        } catch (Exception ignored) {
+            user.setCurrentMana(100.0);
+        }
+
+        // 돈(Money) 로드
+        try {
+            user.setMoney(rs.getDouble("money"));
+        } catch (Exception ignored) {
+        }
+
+        // 일일 리셋 날짜
+        String lastReset = rs.getString("last_daily_reset");
+        if (lastReset != null) {
+            user.setLastDailyReset(LocalDate.parse(lastReset));
+        }
+
+        // 퀘스트 데이터 로드 (quest_blob 우선, 없으면 JSON)
+        byte[] questBlob = rs.getBytes("quest_blob");
+        if (questBlob != null && questBlob.length > 0) {
+            decodeInto(questBlob, UserDataCodec::decodeQuests, user::setQuestProgresses, name);
+        } else {
+            String questJson = rs.getString("quest_data");
+            if (questJson != null && !questJson.isEmpty()) {
+                Map<String, QuestProgress> quests = gson.fromJson(questJson, QUEST_MAP_TYPE);
+                if (quests != null) {
+                    user.setQuestProgresses(quests);
+                    questsMigrated = true;
+                }
+            }
+        }
+
+        // 처치 수 로드 (kill_blob → kill_data JSON → 구버전 phase1_data 순)
+        byte[] killBlob = rs.getBytes("kill_blob");
+        String killJson = rs.getString("kill_data");
+        boolean hasKills = killBlob != null && killBlob.length > 0;
+        if (hasKills) {
+            decodeInto(killBlob, UserDataCodec::decodeKills,
+                    kills -> kills.forEach(user::addMobKillCount), name);
+        } else if (killJson != null && !killJson.isEmpty()) {
+            Map<String, Integer> kills = gson.fromJson(killJson, KILL_MAP_TYPE);
+            if (kills != null) {
+                kills.forEach(user::addMobKillCount);
+                killsMigrated = true;
+            }
+            hasKills = true;
+        }
+
+        // 탐험 청크 로드 (바이너리 chunk_data 우선)
+        byte[] chunkData = rs.getBytes("chunk_data");
+        if (chunkData != null && chunkData.length > 0) {
+            try {
+                user.setExploredChunks(ChunkSet.fromBytes(chunkData));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("탐험 청크 데이터 손상: " + name + " (" + e.getMessage() + ")");
+            }
+        }
+
+        // Phase 1 데이터 로드 (구버전 JSON: 처치 수 + 청크)
+        try {
+            String phase1Json = rs.getString("phase1_data");
+            if (phase1Json != null && !phase1Json.isEmpty()) {
+                boolean legacyChunks = chunkData == null;
+                killsMigrated |= deserializePhase1Data(phase1Json, user, !hasKills, legacyChunks);
+                chunksMigrated = legacyChunks && !user.getExploredChunks().isEmpty();
+            }
+        } catch (Exception e) {
+        }
+
+        // 로드 과정의 add 호출로 설정된 플래그 정리 후, 새 구조로 옮길 구역만 표시
+        user.clearDirty();
+        if (jobsMigrated) {
+            user.markDirty(UserSection.JOBS);
+        }
+        if (questsMigrated) {
+            user.markDirty(UserSection.QUESTS);
+        }
+        if (killsMigrated) {
+            user.markDirty(UserSection.KILL_COUNTS);
+        }
+        if (chunksMigrated) {
+            user.markDirty(UserSection.EXPLORED_CHUNKS);
+        }
+        return user;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 신규 유저는 전체 행을 기록하고, 기존 유저는 변경된 구역의 컬럼만 UPDATE 합니다.
+     * </p>
+     */
+    @Override
+    public void saveAll(List<UserSnapshot> batch) throws SQLException {
+        try (Connection conn = dbManager.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try (SectionStatements stmts = new SectionStatements(conn)) {
+                for (UserSnapshot user : batch) {
+                    if (user.insert()) {
+                        stmts.addFullRow(user);
+                    } else {
+                        stmts.addSections(user);
+                    }
+                }
+                stmts.executeAll();
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 대상 UUID를 페이지 단위로 조회해 유저 행과 랭킹 행을 함께 삭제합니다.
+     * </p>
+     */
+    @Override
+    public int deleteInactive(long lastSeenBefore, Collection<UUID> exclude) throws SQLException {
+        int deleted = 0;
+        String after = "";
+        while (true) {
+            List<String> targets = new ArrayList<>(PRUNE_PAGE_SIZE);
+            String last = null;
+            try (Connection conn = dbManager.getReadConnection();
+                    PreparedStatement pstmt = conn.prepareStatement("SELECT uuid FROM dw_users "
+                            + "WHERE uuid > ? AND last_seen IS NOT NULL AND last_seen < ? ORDER BY uuid LIMIT ?")) {
+                pstmt.setString(1, after);
+                pstmt.setLong(2, lastSeenBefore);
+                pstmt.setInt(3, PRUNE_PAGE_SIZE);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        last = rs.getString(1);
+                        if (!isExcluded(last, exclude)) {
+                            targets.add(last);
+                        }
+                    }
+                }
+            }
+            if (last == null) {
+                return deleted;
+            }
+            after = last;
+            if (targets.isEmpty()) {
+                continue;
+            }
+
+            try (Connection conn = dbManager.getConnection()) {
+                boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                try (PreparedStatement users = conn.prepareStatement("DELETE FROM dw_users WHERE uuid = ?");
+                        PreparedStatement jobs = conn.prepareStatement("DELETE FROM dw_jobs WHERE uuid = ?")) {
+                    for (String uuid : targets) {
+                        users.setString(1, uuid);
+                        users.addBatch();
+                        jobs.setString(1, uuid);
+                        jobs.addBatch();
+                    }
+                    users.executeBatch();
+                    jobs.executeBatch();
+                    conn.commit();
+                } catch (SQLException | RuntimeException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(autoCommit);
+                }
+            }
+            deleted += targets.size();
+        }
+    }
+
+    private static boolean isExcluded(String uuid, Collection<UUID> exclude) {
+        try {
+            return exclude.contains(UUID.fromString(uuid));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * dw_jobs로 옮겨진 유저의 구버전 단일 직업 컬럼(job_id)을 비운 뒤,
+     * SQLite는 {@code VACUUM}, MySQL은 {@code OPTIMIZE TABLE}로 빈 공간을 회수합니다.
+     * </p>
+     */
+    @Override
+    public void compact() throws SQLException {
+        try (Connection conn = dbManager.getConnection(); Statement stmt = conn.createStatement()) {
+            boolean hasLegacyJob;
+            try (ResultSet rs = conn.getMetaData().getColumns(null, null, "dw_users", "job_id")) {
+                hasLegacyJob = rs.next();
+            }
+            if (hasLegacyJob) {
+                int cleared = stmt.executeUpdate("UPDATE dw_users SET job_id = NULL WHERE job_id IS NOT NULL "
+                        + "AND EXISTS (SELECT 1 FROM dw_jobs j WHERE j.uuid = dw_users.uuid)");
+                plugin.getLogger().info("[Storage] 구버전 직업 컬럼 정리: " + cleared + "행");
+            }
+
+            if (dbManager.isUsingSqlite()) {
+                stmt.execute("VACUUM");
+            } else {
+                stmt.execute("OPTIMIZE TABLE dw_users, dw_jobs");
+            }
+        }
+    }
+
+    /**
+     * 구역별 UPDATE 문 모음 (배치 한 번 동안만 사용)
+     * <p>
+     * 실제로 사용된 구역의 문장만 가져오며, 구문은 연결별 캐시({@link StatementCache})에 남아
+     * 다음 배치에서 다시 준비하지 않습니다.
+     * </p>
+     */
+    private final class SectionStatements implements AutoCloseable {
+
+        private static final String FULL_ROW_SQL = """
+                REPLACE INTO dw_users (
+                    uuid, name,
+                    str, dex, con, intel, luk, stat_points,
+                    current_mana, last_daily_reset, quest_blob,
+                    chunk_data, money, kill_blob, last_seen
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+
+        private static final String JOB_ROW_SQL =
+                "REPLACE INTO dw_jobs (uuid, job_id, level, exp, total_exp) VALUES (?, ?, ?, ?, ?)";
+
+        /** 이 배치의 저장 시각 (last_seen) */
+        private final long now = System.currentTimeMillis();
+
+        private final Connection conn;
+
+        /** 이 배치에서 사용한 구문 (실행 순서 유지) */
+        private final Map<String, PreparedStatement> prepared = new LinkedHashMap<>();
+
+        SectionStatements(Connection conn) {
+            this.conn = conn;
+        }
+
+        private PreparedStatement get(String sql) throws SQLException {
+            PreparedStatement stmt = prepared.get(sql);
+            if (stmt == null) {
+                stmt = statements.prepare(conn, sql);
+                prepared.put(sql, stmt);
+            }
+            return stmt;
+        }
+
+        void addFullRow(UserSnapshot user) throws SQLException {
+            PreparedStatement pstmt = get(FULL_ROW_SQL);
+            pstmt.setString(1, user.uuid().toString());
+            pstmt.setString(2, user.name());
+            pstmt.setInt(3, user.str());
+            pstmt.setInt(4, user.dex());
+            pstmt.setInt(5, user.con());
+            pstmt.setInt(6, user.intel());
+            pstmt.setInt(7, user.luk());
+            pstmt.setInt(8, user.statPoints());
+            pstmt.setDouble(9, user.currentMana());
+            pstmt.setString(10, user.lastDailyReset() != null
+                    ? user.lastDailyReset().toString()
+                    : null);
+            pstmt.setBytes(11, measure(UserSection.QUESTS, UserDataCodec.encodeQuests(user.questProgresses())));
+            pstmt.setBytes(12, measure(UserSection.EXPLORED_CHUNKS, ChunkSet.encode(user.exploredChunks())));
+            pstmt.setDouble(13, user.balance());
+            pstmt.setBytes(14, measure(UserSection.KILL_COUNTS, UserDataCodec.encodeKills(user.mobKillCounts())));
+            pstmt.setLong(15, now);
+            pstmt.addBatch();
+
+            addJobRows(user);
+        }
+
+        void addSections(UserSnapshot user) throws SQLException {
+            String uuid = user.uuid().toString();
+
+            if (user.has(UserSection.PROFILE)) {
+                PreparedStatement stmt = get(
+                        "UPDATE dw_users SET name = ?, current_mana = ?, last_daily_reset = ?, last_seen = ? WHERE uuid = ?");
+                stmt.setString(1, user.name());
+                stmt.setDouble(2, user.currentMana());
+                stmt.setString(3, user.lastDailyReset() != null ? user.lastDailyReset().toString() : null);
+                stmt.setLong(4, now);
+                stmt.setString(5, uuid);
+                stmt.addBatch();
+            }
+
+            if (user.has(UserSection.STATS)) {
+                PreparedStatement stmt = get(
+                        "UPDATE dw_users SET str = ?, dex = ?, con = ?, intel = ?, luk = ?, stat_points = ? WHERE uuid = ?");
+                stmt.setInt(1, user.str());
+                stmt.setInt(2, user.dex());
+                stmt.setInt(3, user.con());
+                stmt.setInt(4, user.intel());
+                stmt.setInt(5, user.luk());
+                stmt.setInt(6, user.statPoints());
+                stmt.setString(7, uuid);
+                stmt.addBatch();
+            }
+
+            if (user.has(UserSection.BALANCE)) {
+                PreparedStatement stmt = get("UPDATE dw_users SET money = ? WHERE uuid = ?");
+                stmt.setDouble(1, user.balance());
+                stmt.setString(2, uuid);
+                stmt.addBatch();
+            }
+
+            if (user.has(UserSection.JOBS)) {
+                addJobRows(user);
+
+                // 구버전 컬럼에서 읽은 유저라면 dw_jobs로 옮겨졌으므로 비움 (이미 비어 있으면 기록 없음)
+                PreparedStatement stmt = get("UPDATE dw_users SET job_blob = NULL, job_data = NULL "
+                        + "WHERE uuid = ? AND (job_blob IS NOT NULL OR job_data IS NOT NULL)");
+                stmt.setString(1, uuid);
+                stmt.addBatch();
+            }
+
+            if (user.has(UserSection.QUESTS)) {
+                PreparedStatement stmt = get("UPDATE dw_users SET quest_blob = ?, quest_data = NULL WHERE uuid = ?");
+                stmt.setBytes(1, measure(UserSection.QUESTS, UserDataCodec.encodeQuests(user.questProgresses())));
+                stmt.setString(2, uuid);
+                stmt.addBatch();
+            }
+
+            if (user.has(UserSection.KILL_COUNTS)) {
+                PreparedStatement stmt = get("UPDATE dw_users SET kill_blob = ?, kill_data = NULL WHERE uuid = ?");
+                stmt.setBytes(1, measure(UserSection.KILL_COUNTS, UserDataCodec.encodeKills(user.mobKillCounts())));
+                stmt.setString(2, uuid);
+                stmt.addBatch();
+            }
+
+            if (user.has(UserSection.EXPLORED_CHUNKS)) {
+                // 구버전 phase1_data(JSON)는 바이너리로 옮겨졌으므로 비움
+                PreparedStatement stmt = get("UPDATE dw_users SET chunk_data = ?, phase1_data = NULL WHERE uuid = ?");
+                stmt.setBytes(1, measure(UserSection.EXPLORED_CHUNKS, ChunkSet.encode(user.exploredChunks())));
+                stmt.setString(2, uuid);
+                stmt.addBatch();
+            }
+        }
+
+        /**
+         * 직렬화 크기를 지표에 기록하고 그대로 반환합니다.
+         */
+        private byte[] measure(UserSection section, byte[] bytes) {
+            dbManager.getMetrics().recordSectionSize(section, bytes.length);
+            return bytes;
+        }
+
+        /**
+         * dw_jobs 행 기록 (스냅샷에 담긴 직업 = 변경된 직업만)
+         */
+        private void addJobRows(UserSnapshot user) throws SQLException {
+            PreparedStatement jobStmt = get(JOB_ROW_SQL);
+            for (Map.Entry<JobType, JobInfo> entry : user.jobs().entrySet()) {
+                JobInfo info = entry.getValue();
+                jobStmt.setString(1, user.uuid().toString());
+                jobStmt.setString(2, entry.getKey().getConfigKey());
+                jobStmt.setInt(3, info.getLevel());
+                jobStmt.setDouble(4, info.getCurrentExp());
+                jobStmt.setDouble(5, info.getTotalExp());
+                jobStmt.addBatch();
+            }
+        }
+
+        void executeAll() throws SQLException {
+            for (PreparedStatement stmt : prepared.values()) {
+                stmt.executeBatch();
+            }
+        }
+
+        @Override
+        public void close() {
+            // 구문은 캐시에 남기고, 실패로 실행되지 않은 배치만 비움
+            for (PreparedStatement stmt : prepared.values()) {
+                statements.release(stmt);
+            }
+        }
+    }
+
+    /**
+     * phase1_data를 역직렬화합니다.
+     * 
+     * @param legacyKills  kill_data 컬럼이 비어 있어 phase1_data의 처치 수를 읽어야 하는지 여부
+     * @param legacyChunks chunk_data 컬럼이 비어 있어 phase1_data의 청크를 읽어야 하는지 여부
+     * @return 구버전 처치 수를 읽어 kill_data로 옮겨야 하면 true
+     */
+    private boolean deserializePhase1Data(String json, UserData user, boolean legacyKills, boolean legacyChunks) {
+        boolean killsMigrated = false;
+        try {
+            // 한 번만 파싱하여 트리에서 직접 읽음 (하위 맵을 다시 JSON으로 왕복하지 않음)
+            JsonElement root = JsonParser.parseString(json);
+            if (!root.isJsonObject())
+                return false;
+            JsonObject data = root.getAsJsonObject();
+
+            // Kill Counts (구버전: phase1_data에 함께 저장됨)
+            if (legacyKills && data.has("mobKillCounts") && data.get("mobKillCounts").isJsonObject()) {
+                for (Map.Entry<String, JsonElement> entry : data.getAsJsonObject("mobKillCounts").entrySet()) {
+                    user.addMobKillCount(entry.getKey(), entry.getValue().getAsInt());
+                    killsMigrated = true;
+                }
+            }
+
+            // Explored Chunks (구버전: JSON 배열)
+            if (legacyChunks && data.has("exploredChunks") && data.get("exploredChunks").isJsonArray()) {
+                for (JsonElement chunk : data.getAsJsonArray("exploredChunks")) {
+                    user.addExploredChunk(chunk.getAsLong());
+                }
+            }
+        } catch (Exception e) {
+            plugin.getLogger().warning("Phase 1 데이터 로드 중 오류: " + e.getMessage());
+        }
+        return killsMigrated;
+    }
+
+    // ==================== 직렬화/역직렬화 ====================
+
+    /**
+     * 바이너리 블롭을 복원하여 적용합니다. 손상된 경우 경고 후 기본값을 유지합니다.
+     */
+    private <T> void decodeInto(byte[] data, Function<byte[], T> decoder, Consumer<T> target, String name) {
+        try {
+            target.accept(decoder.apply(data));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("유저 데이터 손상: " + name + " (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * JSON 문자열에서 직업 데이터를 역직렬화합니다. (구버전 job_data 폴백)
+     */
+    private Map<JobType, JobInfo> deserializeJobData(String json) {
+        try {
+            Map<String, JobInfo> raw = gson.fromJson(json, JOB_MAP_TYPE);
+
+            Map<JobType, JobInfo> result = new EnumMap<>(JobType.class);
+
+            // 모든 직업을 기본값으로 초기화
+            for (JobType jobType : JobType.values()) {
+                result.put(jobType, new JobInfo());
+            }
+
+            // 저장된 데이터로 덮어쓰기
+            if (raw != null) {
+                for (Map.Entry<String, JobInfo> entry : raw.entrySet()) {
+                    JobType jobType = JobType.fromConfigKey(entry.getKey());
+                    if (jobType != null && entry.getValue() != null) {
+                        result.put(jobType, entry.getValue());
+                    }
+                }
+            }
+
+            return result;
+        } catch (Exception e) {
+            plugin.getLogger().warning("직업 데이터 역직렬화 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 구버전 단일 직업 데이터를 새 구조로 마이그레이션합니다.
+     * 
+     * @return 마이그레이션이 수행되어 새 구조로 저장해야 하면 true
+     */
+    private boolean migrateOldJobData(ResultSet rs, UserData user) {
+        try {
+            String oldJobId = rs.getString("job_id");
+            int oldLevel = rs.getInt("job_level");
+            double oldExp = rs.getDouble("job_exp");
+
+            if (oldJobId != null && !oldJobId.isEmpty()) {
+                JobType jobType = JobType.fromConfigKey(oldJobId);
+                if (jobType != null) {
+                    JobInfo info = user.getJobInfo(jobType);
+                    info.setLevel(Math.max(1, oldLevel));
+                    info.setCurrentExp(oldExp);
+                    info.setTotalExp(oldExp);
+
+                    plugin.getLogger().info("[Storage] 구버전 직업 데이터 마이그레이션: "
+                            + user.getName() + " -> " + jobType.getDisplayName() + " Lv." + oldLevel);
+                    return true;
+                }
+            }
+        } catch (SQLException e) {
+            // 구버전 컬럼이 없을 수 있음 - 무시
+            if (plugin.isDebugMode()) {
+                plugin.getLogger().info("[Storage] 구버전 컬럼 없음, 신규 유저로 처리");
+            }
+        }
+        return false;
+    }
+}
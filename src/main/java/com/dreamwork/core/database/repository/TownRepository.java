@@ -0,0 +1,47 @@
+package com.dreamwork.core.database.repository;
+
+import com.dreamwork.core.town.TownInfo;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 마을 저장소
+ * <p>
+ * 마을 데이터는 {@link com.dreamwork.core.town.TownManager}가 메모리에 보관하며,
+ * 저장소는 시작 시 전체 로드와 생성, 은행 잔고 일괄 기록만 담당합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public interface TownRepository {
+
+    /**
+     * 모든 마을을 불러옵니다. (서버 시작 시)
+     *
+     * @return 마을 목록 (ID 순)
+     * @throws SQLException 조회 실패 시
+     */
+    List<TownInfo> loadAll() throws SQLException;
+
+    /**
+     * 마을을 생성합니다.
+     *
+     * @param name  마을 이름
+     * @param owner 촌장 UUID
+     * @return 생성된 마을 ID, 같은 이름의 마을이 이미 있으면 -1
+     * @throws SQLException 저장 실패 시
+     */
+    int create(String name, UUID owner) throws SQLException;
+
+    /**
+     * 마을 은행 잔고를 한 트랜잭션으로 기록합니다.
+     *
+     * @param balances 마을 ID → 현재 잔고
+     * @throws SQLException 저장 실패 시 (전체 롤백)
+     */
+    void saveBalances(Map<Integer, Double> balances) throws SQLException;
+}
@@ -0,0 +1,72 @@
+package com.dreamwork.core.database.repository;
+
+import com.dreamwork.core.model.UserData;
+import com.dreamwork.core.model.UserSnapshot;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 유저 데이터 저장소
+ * <p>
+ * {@link com.dreamwork.core.database.StorageManager}는 이 인터페이스만 사용하므로,
+ * SQL 구현({@link SqlUserRepository}) 대신 메모리 구현({@link MemoryUserRepository})을 끼우면
+ * DB 없이 게임 로직을 실행할 수 있습니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public interface UserRepository {
+
+    /**
+     * 저장된 유저 데이터를 읽어 복원합니다. (호출 스레드에서 동기 실행)
+     *
+     * @param uuid 플레이어 UUID
+     * @param name 플레이어 이름
+     * @return 복원된 UserData (저장된 데이터가 없으면 {@code persisted}가 false인 신규 유저)
+     * @throws SQLException 조회 실패 시
+     */
+    UserData load(UUID uuid, String name) throws SQLException;
+
+    /**
+     * 스냅샷 목록을 하나의 트랜잭션으로 저장합니다. (저장 스레드 전용)
+     * <p>
+     * {@link UserSnapshot#insert()}가 true이면 전체 행을, 아니면 변경된 구역만 기록합니다.
+     * </p>
+     *
+     * @param batch 저장할 스냅샷 목록 (UUID 중복 없음)
+     * @throws SQLException 저장 실패 시 (배치 전체가 반영되지 않음)
+     */
+    void saveAll(List<UserSnapshot> batch) throws SQLException;
+
+    /**
+     * 저장된 유저를 UUID 순서로 한 페이지씩 읽습니다. (내보내기/정리 작업용)
+     *
+     * @param afterUuid 이전 페이지의 마지막 UUID 문자열 (처음이면 null)
+     * @param limit     최대 행 수
+     * @return 복원된 유저 목록 (비어 있으면 끝)
+     * @throws SQLException 조회 실패 시
+     */
+    List<UserData> loadPage(String afterUuid, int limit) throws SQLException;
+
+    /**
+     * 마지막 저장 시각이 기준보다 오래된 유저를 삭제합니다.
+     * 마지막 저장 시각이 기록되지 않은 행은 삭제하지 않습니다.
+     *
+     * @param lastSeenBefore 기준 시각 (epoch ms)
+     * @param exclude        삭제하지 않을 UUID (접속 중인 유저 등)
+     * @return 삭제된 유저 수
+     * @throws SQLException 삭제 실패 시
+     */
+    int deleteInactive(long lastSeenBefore, Collection<UUID> exclude) throws SQLException;
+
+    /**
+     * 구버전 컬럼의 잔여 데이터를 비우고 저장 공간을 회수합니다.
+     *
+     * @throws SQLException 실패 시
+     */
+    void compact() throws SQLException;
+}
@@ -58,7 +58,12 @@ public class DreamWorkEconomy implements Economy {
 
     @Override
     public boolean hasAccount(OfflinePlayer player) {
-        return plugin.getStorageManager().getUserData(player.getUniqueId()) != null;
+        if (plugin.getStorageManager().getUserData(player.getUniqueId()) != null) {
+            return true;
+        }
+        // 오프라인: 저장된 행이 있는지로 판단 (로드 중이면 접속 기록으로 대신함)
+        UserData data = lookup(player);
+        return data != null ? data.isPersisted() : player.hasPlayedBefore();
     }
 
     @Override
@@ -78,7 +83,7 @@ public class DreamWorkEconomy implements Economy {
 
     @Override
     public double getBalance(OfflinePlayer player) {
-        UserData data = plugin.getStorageManager().getUserData(player.getUniqueId());
+        UserData data = lookup(player);
         return data != null ? data.getBalance() : 0.0;
     }
 
@@ -176,6 +181,13 @@ public class DreamWorkEconomy implements Economy {
         return depositPlayer(player, amount);
     }
 
+    /**
+     * 온라인/오프라인 유저 데이터를 조회합니다. 오프라인 데이터가 로드 중이면 null을 반환합니다.
+     */
+    private UserData lookup(OfflinePlayer player) {
+        return plugin.getStorageManager().lookupUserData(player.getUniqueId(), player.getName());
+    }
+
     // 은행 관련 기능 (미사용)
 
     @Override
@@ -52,12 +52,13 @@ public class EconomyCirculationService extends Manager {
 
     @Override
     public void onEnable() {
+        // I/O 없이 메모리 값만 계산하고 Bukkit API(온라인 플레이어)를 읽으므로 메인 스레드에서 실행
         // 경제 지표 모니터링 (30분마다)
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin,
+        Bukkit.getScheduler().runTaskTimer(plugin,
                 this::updateEconomyMetrics, 20 * 60 * 30, 20 * 60 * 30);
 
         // 일일 리셋 (24시간마다)
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin,
+        Bukkit.getScheduler().runTaskTimer(plugin,
                 this::dailyReset, 20 * 60 * 60 * 24, 20 * 60 * 60 * 24);
 
         enabled = true;
@@ -4,6 +4,7 @@ import com.dreamwork.core.DreamWorkCore;
 import com.dreamwork.core.gui.InventoryProvider;
 import com.dreamwork.core.item.ItemBuilder;
 import com.dreamwork.core.model.UserData;
+import com.dreamwork.core.model.UserSection;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
@@ -160,7 +161,7 @@ public class StatAllocationProvider extends InventoryProvider {
         }
 
         userData.setStatPoints(availablePoints - pointsToAdd);
-        userData.markDirty();
+        userData.markDirty(UserSection.STATS);
 
         player.sendMessage("§a[스탯] §f" + STAT_DISPLAY[statIndex] + " §7+" + pointsToAdd +
                 " §7(남은 포인트: §e" + (availablePoints - pointsToAdd) + "§7)");
@@ -118,7 +118,7 @@ public class DreamWorkExpansion extends PlaceholderExpansion {
 
             return switch (params) {
                 case "mana" -> String.valueOf(skillManager.getMana(player));
-                case "mana_max" -> String.valueOf(skillManager.getMaxMana());
+                case "mana_max" -> String.valueOf(skillManager.getMaxMana(player));
                 default -> null;
             };
         }
@@ -3,7 +3,9 @@ package com.dreamwork.core.hook;
 import com.dreamwork.core.DreamWorkCore;
 import com.dreamwork.core.job.JobManager;
 import com.dreamwork.core.job.JobProvider;
+import com.dreamwork.core.job.JobType;
 import com.dreamwork.core.job.UserJobData;
+import com.dreamwork.core.model.UserData;
 import com.dreamwork.core.stat.StatManager;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
@@ -127,14 +129,35 @@ public class PapiHook extends PlaceholderExpansion {
 
     /**
      * 오프라인 플레이어 요청 처리
+     * <p>
+     * 저장된 유저 데이터를 오프라인 캐시에서 조회합니다.
+     * 아직 로드되지 않았다면 로드를 시작하고 이번 요청에는 기본값을 반환합니다.
+     * </p>
      * 
      * @param player 오프라인 플레이어
      * @param params placeholder 파라미터
      * @return placeholder 값
      */
     private String handleOfflineRequest(OfflinePlayer player, String params) {
-        // 오프라인 플레이어는 기본값 반환
-        return "0";
+        UserData data = plugin.getStorageManager().lookupUserData(player.getUniqueId(), player.getName());
+        String param = params.toLowerCase();
+        if (data == null) {
+            return "job".equals(param) ? "없음" : "0";
+        }
+
+        JobType mainJob = data.getHighestLevelJob();
+        return switch (param) {
+            case "job" -> data.hasJob() ? mainJob.getDisplayName() : "없음";
+            case "level" -> String.valueOf(data.getJobLevel(mainJob));
+            case "exp" -> String.format("%.0f", data.getJobExp(mainJob));
+            case "str" -> String.valueOf(data.getStr());
+            case "dex" -> String.valueOf(data.getDex());
+            case "con" -> String.valueOf(data.getCon());
+            case "int" -> String.valueOf(data.getIntel());
+            case "luck" -> String.valueOf(data.getLuk());
+            case "points" -> String.valueOf(data.getStatPoints());
+            default -> "0";
+        };
     }
 
     /**
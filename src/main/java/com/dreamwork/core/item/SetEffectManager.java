@@ -2,6 +2,7 @@ package com.dreamwork.core.item;
 
 import com.dreamwork.core.DreamWorkCore;
 import com.dreamwork.core.manager.Manager;
+import com.dreamwork.core.stat.StatParser;
 import org.bukkit.Material;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
@@ -20,9 +21,18 @@ import java.util.*;
  */
 public class SetEffectManager extends Manager {
 
+    /** 방어구 부위 (배열 위치 = 부위 번호) */
+    private static final String[] PARTS = { "helmet", "chestplate", "leggings", "boots" };
+
+    /** 세트 효과 스탯 수 [str, dex, con, int, luck] */
+    private static final int STAT_COUNT = 5;
+
     private final DreamWorkCore plugin;
     private final Map<String, SetDefinition> sets = new HashMap<>();
 
+    /** 방어구 재질 → 그 재질을 부위로 가진 세트 (로드 시 생성) */
+    private final Map<Material, List<SetPart>> setsByMaterial = new EnumMap<>(Material.class);
+
     public SetEffectManager(DreamWorkCore plugin) {
         this.plugin = plugin;
     }
@@ -37,12 +47,14 @@ public class SetEffectManager extends Manager {
     @Override
     public void onDisable() {
         sets.clear();
+        setsByMaterial.clear();
         enabled = false;
     }
 
     @Override
     public void reload() {
         sets.clear();
+        setsByMaterial.clear();
         loadSets();
     }
 
@@ -59,33 +71,42 @@ public class SetEffectManager extends Manager {
         for (String key : config.getKeys(false)) {
             try {
                 String name = config.getString(key + ".name");
-                Map<String, Material> parts = new HashMap<>();
 
                 // 파츠 로드 (helmet, chestplate, leggings, boots)
-                if (config.contains(key + ".items.helmet"))
-                    parts.put("helmet", Material.valueOf(config.getString(key + ".items.helmet")));
-                if (config.contains(key + ".items.chestplate"))
-                    parts.put("chestplate", Material.valueOf(config.getString(key + ".items.chestplate")));
-                if (config.contains(key + ".items.leggings"))
-                    parts.put("leggings", Material.valueOf(config.getString(key + ".items.leggings")));
-                if (config.contains(key + ".items.boots"))
-                    parts.put("boots", Material.valueOf(config.getString(key + ".items.boots")));
-
-                // 효과 로드 (부위 수 -> 스탯 맵)
-                Map<Integer, Map<String, Integer>> effects = new HashMap<>();
+                Material[] parts = new Material[PARTS.length];
+                for (int part = 0; part < PARTS.length; part++) {
+                    String path = key + ".items." + PARTS[part];
+                    if (config.contains(path))
+                        parts[part] = Material.valueOf(config.getString(path));
+                }
+
+                // 효과 로드 (부위 수 -> 스탯 배열)
+                Map<Integer, int[]> effects = new HashMap<>();
                 if (config.contains(key + ".effects")) {
                     for (String countStr : config.getConfigurationSection(key + ".effects").getKeys(false)) {
                         int count = Integer.parseInt(countStr);
-                        Map<String, Integer> stats = new HashMap<>();
+                        int[] stats = new int[STAT_COUNT];
                         for (String stat : config.getConfigurationSection(key + ".effects." + countStr)
                                 .getKeys(false)) {
-                            stats.put(stat.toUpperCase(), config.getInt(key + ".effects." + countStr + "." + stat));
+                            int index = StatParser.baseStatIndex(stat);
+                            if (index < 0) {
+                                plugin.getLogger().warning("세트 " + key + ": 알 수 없는 스탯 무시 - " + stat);
+                                continue;
+                            }
+                            stats[index] += config.getInt(key + ".effects." + countStr + "." + stat);
                         }
                         effects.put(count, stats);
                     }
                 }
 
-                sets.put(key, new SetDefinition(key, name, parts, effects));
+                SetDefinition set = new SetDefinition(key, name, parts, effects);
+                sets.put(key, set);
+                for (int part = 0; part < PARTS.length; part++) {
+                    if (parts[part] != null) {
+                        setsByMaterial.computeIfAbsent(parts[part], m -> new ArrayList<>())
+                                .add(new SetPart(set, part));
+                    }
+                }
             } catch (Exception e) {
                 plugin.getLogger().warning("세트 로드 실패 (" + key + "): " + e.getMessage());
             }
@@ -94,47 +115,48 @@ public class SetEffectManager extends Manager {
 
     /**
      * 플레이어 인벤토리를 검사하여 적용된 세트 효과의 합계를 반환합니다.
+     * <p>
+     * 착용한 방어구의 재질로 후보 세트만 찾으므로 세트 수와 관계없이 착용 부위 수에 비례합니다.
+     * 달성한 모든 단계의 효과를 합산합니다. (2셋 효과 + 4셋 효과)
+     * </p>
      * 
      * @param inv 플레이어 인벤토리
-     * @return 스탯 보너스 맵 (STR -> 10, DEX -> 5 등)
+     * @return 스탯 보너스 배열 [str, dex, con, int, luck]
      */
-    public Map<String, Integer> calculateSetBonuses(PlayerInventory inv) {
-        Map<String, Integer> totalBonus = new HashMap<>();
-
-        // 각 세트별로 착용 부위 수 카운트
-        for (SetDefinition set : sets.values()) {
-            int count = 0;
-            if (isPartEquipped(inv.getHelmet(), set, "helmet"))
-                count++;
-            if (isPartEquipped(inv.getChestplate(), set, "chestplate"))
-                count++;
-            if (isPartEquipped(inv.getLeggings(), set, "leggings"))
-                count++;
-            if (isPartEquipped(inv.getBoots(), set, "boots"))
-                count++;
-
-            if (count > 0) {
-                // 해당 개수에 맞는 효과 적용 (누적일지, 최대치일지는 기획에 따름. 보통 RPG는 달성한 최고 단계만 적용 or 각 단계별. 여기선 달성한
-                // '최고 단계'만 적용하는 것으로 가정하거나, 설정에 따라 다르지만 간단히 구현)
-                // 일반적인 세트 효과: 2셋 효과, 4셋 효과가 별도로 있으면 둘 다 적용될 수도 있고, 하나만 될 수도 있음.
-                // 여기서는 "달성한 모든 단계의 효과를 합산"하는 방식으로 구현 (2셋 효과 + 4셋 효과)
-
-                for (Map.Entry<Integer, Map<String, Integer>> entry : set.getEffects().entrySet()) {
-                    if (count >= entry.getKey()) {
-                        entry.getValue().forEach((stat, value) -> totalBonus.merge(stat, value, Integer::sum));
-                    }
+    public int[] calculateSetBonuses(PlayerInventory inv) {
+        int[] totalBonus = new int[STAT_COUNT];
+        ItemStack[] equipped = { inv.getHelmet(), inv.getChestplate(), inv.getLeggings(), inv.getBoots() };
+
+        // 세트별 착용 부위 수 카운트 (후보 세트만)
+        Map<SetDefinition, Integer> counts = new HashMap<>();
+        for (int part = 0; part < equipped.length; part++) {
+            ItemStack item = equipped[part];
+            if (item == null || item.getType() == Material.AIR)
+                continue;
+            List<SetPart> candidates = setsByMaterial.get(item.getType());
+            if (candidates == null)
+                continue;
+            for (SetPart candidate : candidates) {
+                if (candidate.part() == part) {
+                    counts.merge(candidate.set(), 1, Integer::sum);
                 }
             }
         }
 
+        counts.forEach((set, count) -> {
+            int[] bonus = set.getBonus(count);
+            for (int i = 0; i < STAT_COUNT; i++) {
+                totalBonus[i] += bonus[i];
+            }
+        });
+
         return totalBonus;
     }
 
-    private boolean isPartEquipped(ItemStack item, SetDefinition set, String partName) {
-        if (item == null || item.getType() == Material.AIR)
-            return false;
-        Material required = set.getParts().get(partName);
-        return required != null && item.getType() == required;
+    /**
+     * 재질 색인 항목 (세트와 부위 번호)
+     */
+    private record SetPart(SetDefinition set, int part) {
     }
 
     /**
@@ -143,23 +165,33 @@ public class SetEffectManager extends Manager {
     private static class SetDefinition {
         private final String id;
         private final String name;
-        private final Map<String, Material> parts;
-        private final Map<Integer, Map<String, Integer>> effects;
+        private final Material[] parts;
 
-        public SetDefinition(String id, String name, Map<String, Material> parts,
-                Map<Integer, Map<String, Integer>> effects) {
+        /** 착용 부위 수 → 달성한 모든 단계의 효과 합계 (로드 시 미리 누적) */
+        private final int[][] bonusByCount;
+
+        public SetDefinition(String id, String name, Material[] parts, Map<Integer, int[]> effects) {
             this.id = id;
             this.name = name;
             this.parts = parts;
-            this.effects = effects;
+            this.bonusByCount = new int[PARTS.length + 1][STAT_COUNT];
+            for (int count = 1; count <= PARTS.length; count++) {
+                for (Map.Entry<Integer, int[]> entry : effects.entrySet()) {
+                    if (count >= entry.getKey()) {
+                        for (int i = 0; i < STAT_COUNT; i++) {
+                            bonusByCount[count][i] += entry.getValue()[i];
+                        }
+                    }
+                }
+            }
         }
 
-        public Map<String, Material> getParts() {
+        public Material[] getParts() {
             return parts;
         }
 
-        public Map<Integer, Map<String, Integer>> getEffects() {
-            return effects;
+        public int[] getBonus(int count) {
+            return bonusByCount[Math.min(count, PARTS.length)];
         }
     }
 }
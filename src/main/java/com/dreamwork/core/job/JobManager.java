@@ -343,7 +343,7 @@ public class JobManager extends Manager {
         }
 
         jobInfo.addExp(finalExp);
-        userData.markDirty();
+        userData.markJobDirty(jobType);
 
         // 레벨업 체크
         checkLevelUp(player, jobInfo, job, jobType);
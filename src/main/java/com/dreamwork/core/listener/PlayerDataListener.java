@@ -8,11 +8,14 @@ import com.dreamwork.core.quest.QuestProgress;
 import com.dreamwork.core.stat.StatManager;
 import com.dreamwork.core.database.StorageManager;
 import com.dreamwork.core.model.UserData;
+import com.dreamwork.core.model.UserSection;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.Map;
@@ -21,7 +24,7 @@ import java.util.UUID;
 /**
  * 플레이어 데이터 로드/저장 리스너
  * <p>
- * 플레이어 접속 시 데이터를 비동기로 로드하고,
+ * 사전 로그인 단계(비동기)에서 데이터를 미리 로드해 접속 즉시 적용하고,
  * 퇴장 시 비동기로 저장합니다.
  * </p>
  * <p>
@@ -48,6 +51,31 @@ public class PlayerDataListener implements Listener {
         this.questManager = plugin.getQuestManager();
     }
 
+    /**
+     * 사전 로그인 단계에서 데이터 미리 로드 (비동기 스레드)
+     * <p>
+     * 접속 허용이 확정된 뒤(MONITOR) DB 조회와 역직렬화를 끝내 두므로,
+     * 접속 첫 틱부터 {@link StorageManager#getUserData(UUID)}가 데이터를 반환합니다.
+     * </p>
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        storageManager.prefetchUser(event.getUniqueId(), event.getName());
+    }
+
+    /**
+     * 로그인이 거부된 경우 미리 로드한 데이터 폐기
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            storageManager.discardPrefetched(event.getPlayer().getUniqueId());
+        }
+    }
+
     /**
      * 플레이어 접속 시 데이터 로드
      */
@@ -56,46 +84,20 @@ public class PlayerDataListener implements Listener {
         Player player = event.getPlayer();
         UUID uuid = player.getUniqueId();
 
-        // 비동기로 데이터 로드
+        // 사전 로드된 데이터가 있으면 즉시 적용
+        UserData ready = storageManager.claimPrefetched(uuid);
+        if (ready != null) {
+            applyUserData(player, ready);
+            return;
+        }
+
+        // 사전 로드 실패 시 비동기로 데이터 로드
         storageManager.loadUserAsync(uuid, player.getName()).thenAccept(data -> {
             // 메인 스레드에서 데이터 적용
             plugin.getServer().getScheduler().runTask(plugin, () -> {
-                data.setName(player.getName());
-
-                if (plugin.isDebugMode()) {
-                    plugin.getLogger().info("[Debug] 플레이어 데이터 로드: " + player.getName());
-
-                    // 직업 레벨 로그
-                    for (JobType jobType : JobType.values()) {
-                        int level = data.getJobLevel(jobType);
-                        double exp = data.getJobExp(jobType);
-                        plugin.getLogger().info("[Debug]   " + jobType.getDisplayName() +
-                                " Lv." + level + " (Exp: " + String.format("%.0f", exp) + ")");
-                    }
+                if (player.isOnline()) {
+                    applyUserData(player, data);
                 }
-
-                // 1. StatManager에 스탯 데이터 등록
-                StatManager.PlayerStats stats = new StatManager.PlayerStats(uuid);
-                stats.setStr(data.getStr());
-                stats.setDex(data.getDex());
-                stats.setCon(data.getCon());
-                stats.setInt(data.getIntel());
-                stats.setLuck(data.getLuk());
-                stats.setStatPoints(data.getStatPoints());
-                statManager.setStats(uuid, stats);
-
-                // 스탯 재계산 (직업 보너스 등 적용)
-                statManager.recalculateStats(player);
-
-                // 2. QuestManager에 퀘스트 데이터 등록
-                questManager.loadQuestProgress(uuid, data.getQuestProgresses());
-
-                // 일일 퀘스트 할당 (없으면)
-                questManager.assignDailyQuests(player);
-
-                // 3. 환영 메시지 - 총 레벨 표시
-                int totalLevel = data.getTotalJobLevel();
-                player.sendMessage("§a[DreamWork] §f환영합니다! 총 직업 레벨: §e" + totalLevel);
             });
         }).exceptionally(ex -> {
             plugin.getLogger().severe("플레이어 데이터 로드 실패: " + player.getName());
@@ -104,6 +106,49 @@ public class PlayerDataListener implements Listener {
         });
     }
 
+    /**
+     * 로드된 데이터를 각 매니저에 등록합니다. (메인 스레드)
+     */
+    private void applyUserData(Player player, UserData data) {
+        UUID uuid = player.getUniqueId();
+        data.setName(player.getName());
+
+        if (plugin.isDebugMode()) {
+            plugin.getLogger().info("[Debug] 플레이어 데이터 로드: " + player.getName());
+
+            // 직업 레벨 로그
+            for (JobType jobType : JobType.values()) {
+                int level = data.getJobLevel(jobType);
+                double exp = data.getJobExp(jobType);
+                plugin.getLogger().info("[Debug]   " + jobType.getDisplayName() +
+                        " Lv." + level + " (Exp: " + String.format("%.0f", exp) + ")");
+            }
+        }
+
+        // 1. StatManager에 스탯 데이터 등록
+        StatManager.PlayerStats stats = new StatManager.PlayerStats(uuid);
+        stats.setStr(data.getStr());
+        stats.setDex(data.getDex());
+        stats.setCon(data.getCon());
+        stats.setInt(data.getIntel());
+        stats.setLuck(data.getLuk());
+        stats.setStatPoints(data.getStatPoints());
+        statManager.setStats(uuid, stats);
+
+        // 스탯 재계산 (직업 보너스 등 적용)
+        statManager.recalculateStats(player);
+
+        // 2. QuestManager에 퀘스트 데이터 등록
+        questManager.loadQuestProgress(uuid, data.getQuestProgresses());
+
+        // 일일 퀘스트 할당 (없으면)
+        questManager.assignDailyQuests(player);
+
+        // 3. 환영 메시지 - 총 레벨 표시
+        int totalLevel = data.getTotalJobLevel();
+        player.sendMessage("§a[DreamWork] §f환영합니다! 총 직업 레벨: §e" + totalLevel);
+    }
+
     /**
      * 플레이어 퇴장 시 데이터 저장
      */
@@ -140,8 +185,10 @@ public class PlayerDataListener implements Listener {
         // 3. 직업 데이터는 UserData.jobs에 직접 저장되므로 별도 동기화 불필요
         // (JobManager.addExp가 UserData.getJobInfo를 직접 수정함)
 
-        // 변경 사항 표시 및 저장 요청
-        data.markDirty();
+        // 변경 사항 표시 및 저장 요청 (동기화한 구역만)
+        data.markDirty(UserSection.PROFILE);
+        data.markDirty(UserSection.STATS);
+        data.markDirty(UserSection.QUESTS);
         storageManager.saveUserAsync(data);
 
         // 매니저 캐시 정리
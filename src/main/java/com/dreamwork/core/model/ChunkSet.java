@@ -0,0 +1,279 @@
+package com.dreamwork.core.model;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * 청크 키 전용 원시 long 집합
+ * <p>
+ * {@code HashSet<Long>}은 청크 하나마다 Long 박싱 객체와 해시 노드를 만들어 48바이트 이상을 씁니다.
+ * 이 클래스는 개방 주소법(선형 탐사) 기반의 {@code long[]} 테이블 하나만 사용하므로
+ * 청크당 약 11~16바이트로 줄어듭니다.
+ * </p>
+ * <p>
+ * DB에는 정렬 후 델타-varint로 압축한 바이너리({@link #toBytes()})로 저장합니다.
+ * 청크 키는 {@code (x & 0xffffffff) | (z << 32)} 구조이므로 같은 z 줄의 인접 청크는
+ * 1바이트로 기록됩니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public final class ChunkSet {
+
+    /** 바이너리 포맷 버전 */
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    /** 해시 분산용 상수 (황금비) */
+    private static final long PHI = 0x9E3779B97F4A7C15L;
+
+    /** 0은 빈 슬롯 표시로 쓰므로 별도로 보관 */
+    private boolean containsZero;
+
+    private long[] table;
+    private int mask;
+    private int shift;
+
+    /** 테이블에 들어 있는 (0이 아닌) 키 개수 */
+    private int count;
+
+    public ChunkSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * 예상 크기를 지정하여 생성합니다.
+     *
+     * @param expectedSize 예상 원소 수
+     */
+    public ChunkSet(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * 청크 키를 추가합니다.
+     *
+     * @param key 청크 키
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(long key) {
+        if (key == 0L) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+
+        int idx = slot(key);
+        while (table[idx] != 0L) {
+            if (table[idx] == key) {
+                return false;
+            }
+            idx = (idx + 1) & mask;
+        }
+        table[idx] = key;
+
+        // 적재율 0.75 초과 시 확장
+        if (++count > (table.length >> 2) * 3) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * 청크 키가 포함되어 있는지 확인합니다.
+     *
+     * @param key 청크 키
+     * @return 포함 여부
+     */
+    public boolean contains(long key) {
+        if (key == 0L) {
+            return containsZero;
+        }
+
+        int idx = slot(key);
+        long current;
+        while ((current = table[idx]) != 0L) {
+            if (current == key) {
+                return true;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 원소 수를 반환합니다.
+     *
+     * @return 청크 수
+     */
+    public int size() {
+        return count + (containsZero ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 모든 원소에 대해 작업을 수행합니다. (순서 보장 없음)
+     *
+     * @param action 작업
+     */
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0L);
+        }
+        for (long key : table) {
+            if (key != 0L) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * 원소를 배열로 복사합니다. (순서 보장 없음)
+     *
+     * @return 새 배열
+     */
+    public long[] toArray() {
+        long[] result = new long[size()];
+        int i = 0;
+        if (containsZero) {
+            result[i++] = 0L;
+        }
+        for (long key : table) {
+            if (key != 0L) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    // ==================== 바이너리 직렬화 ====================
+
+    /**
+     * 집합을 압축 바이너리로 직렬화합니다.
+     *
+     * @return 직렬화된 바이트 배열
+     */
+    public byte[] toBytes() {
+        return encode(toArray());
+    }
+
+    /**
+     * 청크 키 배열을 압축 바이너리로 직렬화합니다.
+     * <p>
+     * 형식: [버전 1바이트][개수 varint][정렬된 키의 차이값 varint...]
+     * </p>
+     *
+     * @param keys 청크 키 배열 (중복 없음, 변경되지 않음)
+     * @return 직렬화된 바이트 배열
+     */
+    public static byte[] encode(long[] keys) {
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + sorted.length * 2);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, sorted.length);
+
+        long prev = 0L;
+        for (int i = 0; i < sorted.length; i++) {
+            // 첫 값은 그대로, 이후는 오름차순 차이 (부호 없는 64비트로 취급)
+            long value = i == 0 ? sorted[0] : sorted[i] - prev;
+            writeVarLong(out, value);
+            prev = sorted[i];
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 압축 바이너리에서 집합을 복원합니다.
+     *
+     * @param data 직렬화된 바이트 배열
+     * @return 청크 집합
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static ChunkSet fromBytes(byte[] data) {
+        if (data == null || data.length == 0) {
+            return new ChunkSet();
+        }
+        if (data[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 청크 데이터 버전: " + data[0]);
+        }
+
+        int[] pos = { 1 };
+        int size = (int) readVarLong(data, pos);
+        ChunkSet set = new ChunkSet(size);
+
+        long prev = 0L;
+        for (int i = 0; i < size; i++) {
+            long value = readVarLong(data, pos);
+            long key = i == 0 ? value : prev + value;
+            set.add(key);
+            prev = key;
+        }
+        return set;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] data, int[] pos) {
+        long result = 0L;
+        int bits = 0;
+        while (true) {
+            if (pos[0] >= data.length || bits > 63) {
+                throw new IllegalArgumentException("손상된 청크 데이터");
+            }
+            byte b = data[pos[0]++];
+            result |= (long) (b & 0x7F) << bits;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            bits += 7;
+        }
+    }
+
+    // ==================== 내부 테이블 ====================
+
+    private int slot(long key) {
+        return (int) ((key * PHI) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+
+    private void rehash(int newCapacity) {
+        long[] old = table;
+        allocate(newCapacity);
+        for (long key : old) {
+            if (key != 0L) {
+                int idx = slot(key);
+                while (table[idx] != 0L) {
+                    idx = (idx + 1) & mask;
+                }
+                table[idx] = key;
+            }
+        }
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.75));
+        int capacity = Integer.highestOneBit((int) Math.min(needed, 1 << 30));
+        return capacity < needed ? capacity << 1 : capacity;
+    }
+}
@@ -4,6 +4,7 @@ import com.dreamwork.core.job.JobInfo;
 import com.dreamwork.core.job.JobType;
 import com.dreamwork.core.quest.QuestProgress;
 import com.dreamwork.core.stat.StatManager;
+import com.dreamwork.core.stat.resource.ManaPool;
 import lombok.Data;
 
 import java.time.LocalDate;
@@ -26,6 +27,9 @@ import java.util.*;
 @Data
 public class UserData {
 
+    /** 모든 직업의 비트 마스크 */
+    public static final int ALL_JOBS_MASK = (1 << JobType.values().length) - 1;
+
     private final UUID uuid;
     private String name;
 
@@ -48,8 +52,8 @@ public class UserData {
     private double balance = 0.0; // 소지금 (Money)
 
     // ==================== 런타임 데이터 ====================
-    private double currentMana = 100.0;
-    private double maxMana = 100.0;
+    /** 마나 (재생량은 읽을 때 계산, 최대치/재생량은 스탯 재계산 시 갱신) */
+    private final ManaPool mana = new ManaPool();
 
     // ==================== 퀘스트 데이터 ====================
     /**
@@ -72,14 +76,35 @@ public class UserData {
      * 탐험한 청크 키 목록 (아틀라스 시스템 - 유저별 방문 기록용)
      * *참고: AtlasDiscoverySystem은 주로 청크 PDC를 쓰지만, 유저별 업적 관리를 위해 필요할 수 있음.
      * 현재 설계상으로는 청크 PDC가 메인이지만, 백업용으로 둡니다.*
+     * 탐험가는 수만 개의 청크를 가질 수 있으므로 박싱 없는 원시 long 집합을 사용합니다.
      */
-    private Set<Long> exploredChunks = new HashSet<>();
+    private ChunkSet exploredChunks = new ChunkSet();
 
     // ==================== 더티 플래그 ====================
     /**
-     * 데이터 변경 여부 (DB 저장 최적화용)
+     * 구역별 변경 여부 비트 마스크 (DB 저장 최적화용)
+     * 
+     * @see UserSection
      */
-    private boolean dirty = false;
+    private int dirtyMask = 0;
+
+    /**
+     * 직업별 변경 여부 비트 마스크 ({@link JobType#ordinal()} 위치)
+     * 저장 시 변경된 직업의 행만 기록합니다.
+     */
+    private int dirtyJobMask = 0;
+
+    /**
+     * DB에 행이 존재하는지 여부
+     * false이면 다음 저장 시 전체 행을 기록합니다.
+     */
+    private boolean persisted = false;
+
+    /**
+     * 저널에 아직 기록되지 않은 구역의 비트 마스크
+     * DB 저장 여부와 별개로 변경 즉시 설정되며, 저널 기록 시 비워집니다.
+     */
+    private int journalMask = 0;
 
     /**
      * 새 플레이어 데이터를 생성합니다.
@@ -163,6 +188,24 @@ public class UserData {
         return highest;
     }
 
+    /**
+     * 진행한 직업이 있는지 확인합니다.
+     * <p>
+     * 직업 레벨은 1 이상으로 보정되므로, 경험치를 얻었거나 레벨이 오른 직업이 있는지로 판단합니다.
+     * (접속 중인 유저의 {@link com.dreamwork.core.job.UserJobData#hasJob()}에 대응하는 오프라인 판정)
+     * </p>
+     * 
+     * @return 진행한 직업이 있으면 true
+     */
+    public boolean hasJob() {
+        for (JobInfo info : jobs.values()) {
+            if (info.getLevel() > 1 || info.getTotalExp() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 직업에 경험치를 추가합니다.
      * 
@@ -172,10 +215,21 @@ public class UserData {
     public void addJobExp(JobType jobType, double amount) {
         if (amount > 0) {
             getJobInfo(jobType).addExp(amount);
-            markDirty();
+            markJobDirty(jobType);
         }
     }
 
+    /**
+     * 특정 직업이 변경되었음을 표시합니다.
+     * 
+     * @param jobType 변경된 직업
+     */
+    public void markJobDirty(JobType jobType) {
+        this.dirtyJobMask |= 1 << jobType.ordinal();
+        this.dirtyMask |= UserSection.JOBS.bit();
+        this.journalMask |= UserSection.JOBS.bit();
+    }
+
     // ==================== 스탯 관련 메서드 ====================
 
     /**
@@ -191,41 +245,95 @@ public class UserData {
             this.intel = stats.getBaseInt();
             this.luk = stats.getBaseLuck();
             this.statPoints = stats.getStatPoints();
-            markDirty();
+            markDirty(UserSection.STATS);
         }
     }
 
+    /**
+     * 현재 마나를 반환합니다. (마지막 갱신 이후 재생량 포함)
+     * 
+     * @return 현재 마나
+     */
+    public double getCurrentMana() {
+        return mana.current();
+    }
+
+    /**
+     * 현재 마나를 설정합니다.
+     * 
+     * @param currentMana 마나
+     */
+    public void setCurrentMana(double currentMana) {
+        mana.set(currentMana);
+    }
+
     /**
      * 최대 마나를 반환합니다.
      * 
      * @return 최대 마나
      */
     public double getMaxMana() {
-        // 기본 100 + 지능 보너스
-        return 100.0 + (intel * 2.0);
+        return mana.getMax();
     }
 
     // ==================== 유틸리티 메서드 ====================
 
     /**
-     * 데이터가 변경되었음을 표시합니다.
+     * 모든 구역이 변경되었음을 표시합니다.
+     * 변경된 구역을 알고 있다면 {@link #markDirty(UserSection)}을 사용하세요.
      */
     public void markDirty() {
-        this.dirty = true;
+        this.dirtyMask = UserSection.ALL_MASK;
+        this.dirtyJobMask = ALL_JOBS_MASK;
+        this.journalMask = UserSection.ALL_MASK;
     }
 
     /**
-     * 더티 플래그를 초기화합니다. (저장 완료 후 호출)
+     * 특정 구역이 변경되었음을 표시합니다.
+     * 
+     * @param section 변경된 구역
+     */
+    public void markDirty(UserSection section) {
+        this.dirtyMask |= section.bit();
+        this.journalMask |= section.bit();
+        if (section == UserSection.JOBS) {
+            this.dirtyJobMask = ALL_JOBS_MASK;
+        }
+    }
+
+    /**
+     * 변경된 구역이 있는지 확인합니다.
+     * 
+     * @return 저장이 필요하면 true
+     */
+    public boolean isDirty() {
+        return dirtyMask != 0;
+    }
+
+    /**
+     * 더티 플래그를 초기화합니다. (저장 스냅샷 생성 후 호출)
      */
     public void clearDirty() {
-        this.dirty = false;
+        this.dirtyMask = 0;
+        this.dirtyJobMask = 0;
+    }
+
+    /**
+     * 저널에 기록할 구역을 가져오고 비웁니다.
+     * 
+     * @return 마지막 호출 이후 변경된 구역의 비트 마스크
+     */
+    public int takeJournalMask() {
+        int mask = this.journalMask;
+        this.journalMask = 0;
+        return mask;
     }
 
     // ==================== 슬레이어 시스템 메서드 ====================
 
     public void addMobKillCount(String mobType, int amount) {
         mobKillCounts.merge(mobType, amount, Integer::sum);
-        markDirty();
+        markDirty(UserSection.KILL_COUNTS);
     }
 
     public int getMobKillCount(String mobType) {
@@ -240,7 +348,7 @@ public class UserData {
 
     public void addExploredChunk(long chunkKey) {
         if (exploredChunks.add(chunkKey)) {
-            markDirty();
+            markDirty(UserSection.EXPLORED_CHUNKS);
         }
     }
 
@@ -254,7 +362,7 @@ public class UserData {
         if (amount <= 0)
             return;
         this.balance += amount;
-        markDirty();
+        markDirty(UserSection.BALANCE);
     }
 
     public boolean hasMoney(double amount) {
@@ -265,12 +373,12 @@ public class UserData {
         if (amount <= 0)
             return;
         this.balance = Math.max(0, this.balance - amount);
-        markDirty();
+        markDirty(UserSection.BALANCE);
     }
 
     public void setMoney(double amount) {
         this.balance = Math.max(0, amount);
-        markDirty();
+        markDirty(UserSection.BALANCE);
     }
 
     // ==================== 하위 호환성 메서드 (Deprecated) ====================
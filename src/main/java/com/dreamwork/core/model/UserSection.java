@@ -0,0 +1,57 @@
+package com.dreamwork.core.model;
+
+/**
+ * 유저 데이터 저장 구역
+ * <p>
+ * {@link UserData}는 구역별 더티 비트를 유지하며,
+ * 저장 시 변경된 구역에 해당하는 컬럼만 UPDATE 합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public enum UserSection {
+
+    /** 이름, 현재 마나, 일일 리셋 날짜 */
+    PROFILE,
+
+    /** 기본 스탯 (STR/DEX/CON/INT/LUK) 및 스탯 포인트 */
+    STATS,
+
+    /** 소지금 */
+    BALANCE,
+
+    /** 직업 레벨/경험치 */
+    JOBS,
+
+    /** 퀘스트 진행 상황 */
+    QUESTS,
+
+    /** 몬스터 처치 수 (슬레이어 도감) */
+    KILL_COUNTS,
+
+    /** 탐험한 청크 (아틀라스) */
+    EXPLORED_CHUNKS;
+
+    /** 모든 구역의 비트 마스크 */
+    public static final int ALL_MASK = (1 << values().length) - 1;
+
+    /**
+     * 이 구역의 비트를 반환합니다.
+     *
+     * @return 비트 마스크
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 마스크에 이 구역이 포함되어 있는지 확인합니다.
+     *
+     * @param mask 비트 마스크
+     * @return 포함 여부
+     */
+    public boolean in(int mask) {
+        return (mask & bit()) != 0;
+    }
+}
@@ -0,0 +1,231 @@
+package com.dreamwork.core.model;
+
+import com.dreamwork.core.job.JobInfo;
+import com.dreamwork.core.job.JobType;
+import com.dreamwork.core.quest.QuestProgress;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 저장용 유저 데이터 스냅샷 (불변)
+ * <p>
+ * 메인 스레드에서 {@link UserData}의 현재 상태를 복사해 만들고,
+ * 저장 스레드에서는 이 스냅샷만 읽어 직렬화합니다.
+ * 원본이 계속 변경되어도 직렬화 중 {@code ConcurrentModificationException}이나
+ * 일부만 반영된 상태가 저장되지 않습니다.
+ * </p>
+ * <p>
+ * 변경된 구역({@link #sections()})만 복사하며, 나머지 구역의 값은 비어 있습니다.
+ * {@link #insert()}가 true이면 DB에 행이 없으므로 모든 구역을 담고 전체 행을 기록합니다.
+ * </p>
+ * <p>
+ * 저장용 스냅샷({@link #of(UserData)})의 {@link #jobs()}에는 변경된 직업만 담깁니다.
+ * 값을 덮어쓰는 쪽({@link #applyTo}, {@link #mergeOlder})은 맵에 있는 직업만 반영합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public record UserSnapshot(
+        UUID uuid,
+        String name,
+        int sections,
+        boolean insert,
+        Map<JobType, JobInfo> jobs,
+        int str,
+        int dex,
+        int con,
+        int intel,
+        int luk,
+        int statPoints,
+        double balance,
+        double currentMana,
+        LocalDate lastDailyReset,
+        Map<String, QuestProgress> questProgresses,
+        Map<String, Integer> mobKillCounts,
+        long[] exploredChunks) {
+
+    /**
+     * 유저 데이터의 스냅샷을 생성합니다. (메인 스레드에서 호출)
+     * 더티 비트가 설정된 구역과 직업만 복사합니다.
+     *
+     * @param user 원본 유저 데이터
+     * @return 불변 스냅샷
+     */
+    public static UserSnapshot of(UserData user) {
+        boolean insert = !user.isPersisted();
+        return insert
+                ? of(user, UserSection.ALL_MASK, true, UserData.ALL_JOBS_MASK)
+                : of(user, user.getDirtyMask(), false, user.getDirtyJobMask());
+    }
+
+    /**
+     * 지정한 구역만 담은 스냅샷을 생성합니다. 직업 구역은 모든 직업을 복사합니다. (메인 스레드에서 호출)
+     *
+     * @param user   원본 유저 데이터
+     * @param mask   복사할 구역의 비트 마스크
+     * @param insert 전체 행 기록 여부
+     * @return 불변 스냅샷
+     */
+    public static UserSnapshot of(UserData user, int mask, boolean insert) {
+        return of(user, mask, insert, UserData.ALL_JOBS_MASK);
+    }
+
+    private static UserSnapshot of(UserData user, int mask, boolean insert, int jobMask) {
+        Map<JobType, JobInfo> jobs = null;
+        if (UserSection.JOBS.in(mask)) {
+            jobs = new EnumMap<>(JobType.class);
+            for (Map.Entry<JobType, JobInfo> entry : user.getJobs().entrySet()) {
+                if ((jobMask & (1 << entry.getKey().ordinal())) != 0) {
+                    jobs.put(entry.getKey(), entry.getValue().copy());
+                }
+            }
+            jobs = Collections.unmodifiableMap(jobs);
+        }
+
+        Map<String, QuestProgress> quests = null;
+        if (UserSection.QUESTS.in(mask)) {
+            quests = new HashMap<>();
+            for (Map.Entry<String, QuestProgress> entry : user.getQuestProgresses().entrySet()) {
+                if (entry.getValue() != null) {
+                    quests.put(entry.getKey(), entry.getValue().copy());
+                }
+            }
+            quests = Collections.unmodifiableMap(quests);
+        }
+
+        Map<String, Integer> kills = UserSection.KILL_COUNTS.in(mask)
+                ? Map.copyOf(user.getMobKillCounts())
+                : null;
+
+        long[] chunks = UserSection.EXPLORED_CHUNKS.in(mask)
+                ? user.getExploredChunks().toArray()
+                : null;
+
+        return new UserSnapshot(
+                user.getUuid(),
+                user.getName(),
+                mask,
+                insert,
+                jobs,
+                user.getStr(),
+                user.getDex(),
+                user.getCon(),
+                user.getIntel(),
+                user.getLuk(),
+                user.getStatPoints(),
+                user.getBalance(),
+                user.getCurrentMana(),
+                user.getLastDailyReset(),
+                quests,
+                kills,
+                chunks);
+    }
+
+    /**
+     * 이 스냅샷에 포함된 구역의 값을 유저 데이터에 덮어씁니다.
+     * 더티 플래그는 변경하지 않으므로 필요하면 호출자가 표시합니다.
+     *
+     * @param user 대상 유저 데이터
+     */
+    public void applyTo(UserData user) {
+        if (has(UserSection.PROFILE)) {
+            if (name != null) {
+                user.setName(name);
+            }
+            user.setCurrentMana(currentMana);
+            user.setLastDailyReset(lastDailyReset);
+        }
+        if (has(UserSection.STATS)) {
+            user.setStr(str);
+            user.setDex(dex);
+            user.setCon(con);
+            user.setIntel(intel);
+            user.setLuk(luk);
+            user.setStatPoints(statPoints);
+        }
+        if (has(UserSection.BALANCE)) {
+            user.setBalance(balance);
+        }
+        if (has(UserSection.JOBS)) {
+            for (Map.Entry<JobType, JobInfo> entry : jobs.entrySet()) {
+                user.getJobs().put(entry.getKey(), entry.getValue().copy());
+            }
+        }
+        if (has(UserSection.QUESTS)) {
+            Map<String, QuestProgress> quests = new HashMap<>();
+            questProgresses.forEach((id, progress) -> quests.put(id, progress.copy()));
+            user.setQuestProgresses(quests);
+        }
+        if (has(UserSection.KILL_COUNTS)) {
+            user.setMobKillCounts(new HashMap<>(mobKillCounts));
+        }
+        if (has(UserSection.EXPLORED_CHUNKS)) {
+            ChunkSet chunks = new ChunkSet(exploredChunks.length);
+            for (long key : exploredChunks) {
+                chunks.add(key);
+            }
+            user.setExploredChunks(chunks);
+        }
+    }
+
+    /**
+     * 두 스냅샷의 직업을 합칩니다. 양쪽에 있는 직업은 이 스냅샷의 값을 사용합니다.
+     */
+    private Map<JobType, JobInfo> mergeJobs(UserSnapshot older) {
+        if (!has(UserSection.JOBS)) {
+            return older.jobs;
+        }
+        if (!older.has(UserSection.JOBS)) {
+            return jobs;
+        }
+        Map<JobType, JobInfo> merged = new EnumMap<>(JobType.class);
+        merged.putAll(older.jobs);
+        merged.putAll(jobs);
+        return Collections.unmodifiableMap(merged);
+    }
+
+    /**
+     * 해당 구역이 이 스냅샷에 포함되어 있는지 확인합니다.
+     *
+     * @param section 구역
+     * @return 포함 여부
+     */
+    public boolean has(UserSection section) {
+        return section.in(sections);
+    }
+
+    /**
+     * 아직 저장되지 않은 이전 스냅샷과 합칩니다.
+     * 두 스냅샷 모두에 있는 구역은 이 (더 최신) 스냅샷의 값을 사용합니다.
+     *
+     * @param older 이전 스냅샷
+     * @return 합쳐진 스냅샷
+     */
+    public UserSnapshot mergeOlder(UserSnapshot older) {
+        boolean stats = has(UserSection.STATS);
+        return new UserSnapshot(
+                uuid,
+                name,
+                sections | older.sections,
+                insert || older.insert,
+                mergeJobs(older),
+                stats ? str : older.str,
+                stats ? dex : older.dex,
+                stats ? con : older.con,
+                stats ? intel : older.intel,
+                stats ? luk : older.luk,
+                stats ? statPoints : older.statPoints,
+                has(UserSection.BALANCE) ? balance : older.balance,
+                currentMana,
+                lastDailyReset,
+                has(UserSection.QUESTS) ? questProgresses : older.questProgresses,
+                has(UserSection.KILL_COUNTS) ? mobKillCounts : older.mobKillCounts,
+                has(UserSection.EXPLORED_CHUNKS) ? exploredChunks : older.exploredChunks);
+    }
+}
@@ -4,6 +4,8 @@ import com.dreamwork.core.DreamWorkCore;
 import com.dreamwork.core.job.engine.RewardProcessor;
 import com.dreamwork.core.job.engine.TriggerType;
 import com.dreamwork.core.manager.Manager;
+import com.dreamwork.core.model.UserData;
+import com.dreamwork.core.model.UserSection;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
@@ -174,10 +176,13 @@ public class QuestManager extends Manager {
         UUID uuid = player.getUniqueId();
         Map<String, QuestProgress> progress = playerProgress.computeIfAbsent(uuid, k -> new ConcurrentHashMap<>());
 
+        boolean assigned = false;
+
         // 일일 퀘스트 할당
         for (String questId : todaysDailyQuests) {
             if (!progress.containsKey(questId)) {
                 progress.put(questId, new QuestProgress(questId));
+                assigned = true;
             }
         }
 
@@ -186,9 +191,14 @@ public class QuestManager extends Manager {
             if (quest.getType() == Quest.QuestType.WEEKLY) {
                 if (!progress.containsKey(quest.getId())) {
                     progress.put(quest.getId(), new QuestProgress(quest.getId()));
+                    assigned = true;
                 }
             }
         }
+
+        if (assigned) {
+            markQuestsDirty(uuid);
+        }
     }
 
     /**
@@ -236,6 +246,7 @@ public class QuestManager extends Manager {
         progress.remove(oldQuestId);
         String newQuestId = available.get(new Random().nextInt(available.size()));
         progress.put(newQuestId, new QuestProgress(newQuestId));
+        markQuestsDirty(uuid);
 
         player.sendMessage("§a[퀘스트] 새로운 퀘스트로 교체되었습니다!");
         return true;
@@ -254,6 +265,7 @@ public class QuestManager extends Manager {
         if (progress == null)
             return;
 
+        boolean changed = false;
         for (QuestProgress qp : progress.values()) {
             if (qp.getStatus() != QuestProgress.QuestStatus.IN_PROGRESS)
                 continue;
@@ -265,6 +277,7 @@ public class QuestManager extends Manager {
             // 요구사항 일치 여부 확인
             if (quest.getRequirement().matches(trigger, target)) {
                 qp.addProgress(1);
+                changed = true;
 
                 // 완료 체크
                 if (qp.isComplete(quest.getRequirement().getAmount())) {
@@ -278,6 +291,10 @@ public class QuestManager extends Manager {
                 }
             }
         }
+
+        if (changed) {
+            markQuestsDirty(uuid);
+        }
     }
 
     /**
@@ -322,6 +339,7 @@ public class QuestManager extends Manager {
         }
 
         qp.setStatus(QuestProgress.QuestStatus.REWARDED);
+        markQuestsDirty(uuid);
         player.sendMessage("§a[퀘스트] '" + quest.getName() + "' 보상을 받았습니다!");
 
         return true;
@@ -353,6 +371,16 @@ public class QuestManager extends Manager {
         }
     }
 
+    /**
+     * 퀘스트 진행 구역을 저장 대상으로 표시합니다.
+     */
+    private void markQuestsDirty(UUID uuid) {
+        UserData userData = plugin.getStorageManager().getUserData(uuid);
+        if (userData != null) {
+            userData.markDirty(UserSection.QUESTS);
+        }
+    }
+
     private int parseInt(String str, int defaultValue) {
         try {
             return Integer.parseInt(str);
@@ -42,6 +42,19 @@ public class QuestProgress {
         this.status = status;
     }
 
+    /**
+     * 복사본을 생성합니다.
+     *
+     * @return 새 QuestProgress 인스턴스
+     */
+    public QuestProgress copy() {
+        QuestProgress copy = new QuestProgress();
+        copy.questId = this.questId;
+        copy.currentProgress = this.currentProgress;
+        copy.status = this.status;
+        return copy;
+    }
+
     /**
      * 요구량과 비교하여 완료 여부 확인
      */
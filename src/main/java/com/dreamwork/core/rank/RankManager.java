@@ -1,12 +1,10 @@
 package com.dreamwork.core.rank;
 
 import com.dreamwork.core.DreamWorkCore;
+import com.dreamwork.core.database.repository.RankingRepository;
 import com.dreamwork.core.manager.Manager;
-import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -16,7 +14,7 @@ import java.util.stream.Collectors;
  * 랭킹 시스템 매니저
  * 
  * <p>
- * DB를 주기적으로 스캔하여
+ * 랭킹 저장소를 주기적으로 조회하여
  * 종합 레벨과 경험치 기준으로 순위를 산정합니다.
  * </p>
  */
@@ -27,6 +25,9 @@ public class RankManager extends Manager {
     private final Map<UUID, Integer> playerRankCache = new ConcurrentHashMap<>();
     private long lastUpdateTime = 0;
 
+    /** 주기 업데이트 타이머 */
+    private BukkitTask updateTask;
+
     // 랭킹 업데이트 주기 (5분)
     private static final long UPDATE_INTERVAL = 5 * 60 * 1000L;
 
@@ -40,7 +41,7 @@ public class RankManager extends Manager {
         updateRankingAsync();
 
         // 주기적 업데이트 (10분마다)
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::updateRanking, 20 * 60 * 10, 20 * 60 * 10);
+        updateTask = plugin.getIoExecutor().repeat("rank.update", 20 * 60 * 10, 20 * 60 * 10, this::updateRanking);
 
         enabled = true;
         plugin.getLogger().info("RankManager 활성화 완료");
@@ -48,6 +49,10 @@ public class RankManager extends Manager {
 
     @Override
     public void onDisable() {
+        if (updateTask != null) {
+            updateTask.cancel();
+            updateTask = null;
+        }
         cachedRanking.clear();
         playerRankCache.clear();
         enabled = false;
@@ -63,7 +68,7 @@ public class RankManager extends Manager {
      * 비동기로 랭킹을 업데이트합니다.
      */
     public CompletableFuture<Void> updateRankingAsync() {
-        return CompletableFuture.runAsync(this::updateRanking);
+        return plugin.getIoExecutor().run("rank.update", this::updateRanking);
     }
 
     /**
@@ -75,32 +80,16 @@ public class RankManager extends Manager {
 
         List<RankEntry> tempRanking = new ArrayList<>();
 
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            // 레벨 내림차순, 경험치 내림차순으로 상위 100명 조회
+        try {
             // 레벨 내림차순, 경험치 내림차순으로 상위 100명 조회
-            String sql = "SELECT u.uuid, u.name, j.job_id, j.level, j.exp FROM dw_jobs j JOIN dw_users u ON j.uuid = u.uuid ORDER BY j.level DESC, j.exp DESC LIMIT 100";
-
-            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-                ResultSet rs = pstmt.executeQuery();
-
-                while (rs.next()) {
-                    String uuidStr = rs.getString("uuid");
-                    String name = rs.getString("name");
-                    String jobId = rs.getString("job_id");
-                    int level = rs.getInt("level");
-                    double exp = rs.getDouble("exp");
-
-                    if (jobId == null || jobId.isEmpty())
-                        continue;
-
-                    tempRanking.add(new RankEntry(
-                            UUID.fromString(uuidStr),
-                            name,
-                            jobId,
-                            level,
-                            exp,
-                            calculateTotalScore(level, exp)));
-                }
+            for (RankingRepository.Row row : plugin.getDatabaseManager().getRankingRepository().fetchTop(100)) {
+                tempRanking.add(new RankEntry(
+                        row.uuid(),
+                        row.name(),
+                        row.jobId(),
+                        row.level(),
+                        row.exp(),
+                        calculateTotalScore(row.level(), row.exp())));
             }
         } catch (Exception e) {
             plugin.getLogger().warning("랭킹 업데이트 중 오류 발생: " + e.getMessage());
@@ -27,7 +27,7 @@ public class SkillConditionChecker {
      */
     public boolean hasEnoughMana(Player player, SkillEffect skill) {
         UserData data = storageManager.getUserData(player.getUniqueId());
-        return data.getCurrentMana() >= skill.getManaCost();
+        return data != null && data.getCurrentMana() >= skill.getManaCost();
     }
 
     /**
@@ -57,10 +57,11 @@ public class SkillConditionChecker {
 
     /**
      * 마나를 소모합니다.
+     *
+     * @return 소모했으면 true, 마나가 부족하면 false
      */
-    public void consumeMana(Player player, SkillEffect skill) {
+    public boolean consumeMana(Player player, SkillEffect skill) {
         UserData data = storageManager.getUserData(player.getUniqueId());
-        double current = data.getCurrentMana();
-        data.setCurrentMana(current - skill.getManaCost());
+        return data != null && data.getMana().consume(skill.getManaCost());
     }
 }
@@ -4,11 +4,13 @@ import com.dreamwork.core.DreamWorkCore;
 import com.dreamwork.core.job.JobManager;
 import com.dreamwork.core.job.UserJobData;
 import com.dreamwork.core.manager.Manager;
+import com.dreamwork.core.model.UserData;
 import com.dreamwork.core.skill.skills.Dash;
 import com.dreamwork.core.skill.skills.Adrenaline;
 import com.dreamwork.core.skill.skills.GoldenHook;
 import com.dreamwork.core.skill.skills.MinerBlast;
 import com.dreamwork.core.skill.skills.SuperHeat;
+import com.dreamwork.core.stat.resource.ManaPool;
 import org.bukkit.entity.Player;
 
 import java.util.*;
@@ -31,24 +33,14 @@ public class SkillManager extends Manager {
     /** 플레이어 쿨타임 (UUID -> (skillId -> endTime)) */
     private final Map<UUID, Map<String, Long>> cooldowns = new ConcurrentHashMap<>();
 
-    /** 플레이어 마나 (UUID -> mana) */
-    private final Map<UUID, Integer> playerMana = new ConcurrentHashMap<>();
-
-    /** 최대 마나 */
-    private int maxMana = 100;
-
     public SkillManager(DreamWorkCore plugin) {
         this.plugin = plugin;
     }
 
     @Override
     public void onEnable() {
-        loadConfig();
         registerDefaultSkills();
 
-        // 마나 재생 태스크
-        startManaRegenTask();
-
         enabled = true;
         plugin.getLogger().info("SkillManager 활성화 완료! 스킬: " + skills.size() + "개");
     }
@@ -58,19 +50,13 @@ public class SkillManager extends Manager {
         enabled = false;
         skills.clear();
         cooldowns.clear();
-        playerMana.clear();
     }
 
     @Override
     public void reload() {
-        loadConfig();
         plugin.getLogger().info("SkillManager 리로드 완료!");
     }
 
-    private void loadConfig() {
-        this.maxMana = plugin.getConfig().getInt("skill.max-mana", 100);
-    }
-
     /**
      * 기본 스킬을 등록합니다.
      */
@@ -172,8 +158,11 @@ public class SkillManager extends Manager {
 
         SkillEffect skill = skills.get(skillId);
 
-        // 마나 소모
-        consumeMana(player, skill.getManaCost());
+        // 마나 소모 (확인 후 다른 경로에서 소모되었으면 발동 취소)
+        if (!consumeMana(player, skill.getManaCost())) {
+            player.sendMessage("§c[스킬] 기력이 부족합니다. (필요: " + skill.getManaCost() + ")");
+            return false;
+        }
 
         // 쿨타임 시작
         startCooldown(player, skillId, skill.getCooldown());
@@ -227,41 +216,45 @@ public class SkillManager extends Manager {
     }
 
     // ==================== 마나 관리 ====================
+    // 마나는 UserData의 ManaPool 하나로 관리합니다. (재생량은 읽을 때 계산)
+
+    private ManaPool manaOf(Player player) {
+        UserData data = plugin.getStorageManager().getUserData(player.getUniqueId());
+        return data != null ? data.getMana() : null;
+    }
 
     public int getMana(Player player) {
-        return playerMana.getOrDefault(player.getUniqueId(), maxMana);
+        ManaPool mana = manaOf(player);
+        return mana != null ? (int) mana.current() : 0;
     }
 
     public void setMana(Player player, int mana) {
-        playerMana.put(player.getUniqueId(), Math.min(mana, maxMana));
+        ManaPool pool = manaOf(player);
+        if (pool != null) {
+            pool.set(Math.min(mana, pool.getMax()));
+        }
     }
 
-    public void consumeMana(Player player, int amount) {
-        int current = getMana(player);
-        setMana(player, Math.max(0, current - amount));
+    /**
+     * 마나를 소모합니다.
+     *
+     * @return 소모했으면 true, 마나가 부족하거나 데이터가 없으면 false
+     */
+    public boolean consumeMana(Player player, int amount) {
+        ManaPool mana = manaOf(player);
+        return mana != null && mana.consume(amount);
     }
 
     public void restoreMana(Player player, int amount) {
-        int current = getMana(player);
-        setMana(player, Math.min(maxMana, current + amount));
-    }
-
-    public int getMaxMana() {
-        return maxMana;
+        ManaPool mana = manaOf(player);
+        if (mana != null) {
+            mana.restore(amount);
+        }
     }
 
-    private void startManaRegenTask() {
-        int regenAmount = plugin.getConfig().getInt("skill.mana-regen-amount", 5);
-        int regenInterval = plugin.getConfig().getInt("skill.mana-regen-interval", 60); // 틱
-
-        new org.bukkit.scheduler.BukkitRunnable() {
-            @Override
-            public void run() {
-                for (Player player : org.bukkit.Bukkit.getOnlinePlayers()) {
-                    restoreMana(player, regenAmount);
-                }
-            }
-        }.runTaskTimer(plugin, regenInterval, regenInterval);
+    public int getMaxMana(Player player) {
+        ManaPool mana = manaOf(player);
+        return mana != null ? (int) mana.getMax() : 0;
     }
 
     // ==================== Getters ====================
@@ -0,0 +1,89 @@
+package com.dreamwork.core.stat;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 스탯에서 계산되는 파생 수치
+ * <p>
+ * {@link StatManager.PlayerStats#derived(DerivedStat)}가 값을 메모이즈하며,
+ * 입력 스탯이 바뀔 때만 다시 계산합니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public enum DerivedStat {
+
+    /** 물리 추가 데미지: {@code STR * 0.5 + 1} */
+    PHYSICAL_BONUS(s -> s.get(StatType.STR) * 0.5 + 1.0, StatType.STR),
+
+    /** 치명타 확률: {@code 5 + DEX * 0.2} (최대 50%) */
+    CRIT_CHANCE(s -> Math.min(5.0 + s.get(StatType.DEX) * 0.2, 50.0), StatType.DEX),
+
+    /** 데미지 감소율: {@code CON / (CON + 100) * 100} (%) */
+    DAMAGE_REDUCTION(s -> {
+        int con = s.get(StatType.CON);
+        return ((double) con / (con + 100)) * 100;
+    }, StatType.CON),
+
+    /** 채집 보너스 확률: {@code LUCK * 0.5} (%) */
+    DROP_BONUS(s -> s.get(StatType.LUCK) * 0.5, StatType.LUCK),
+
+    /** 최대 마나: {@code 100 + INT * 10} */
+    MAX_MANA(s -> 100.0 + s.get(StatType.INT) * 10.0, StatType.INT),
+
+    /** 초당 마나 재생량: {@code 5 + INT * 0.5} */
+    MANA_REGEN(s -> 5.0 + s.get(StatType.INT) * 0.5, StatType.INT),
+
+    /** 바닐라 최대 체력: {@code 20 + CON * 2} (최대 2048) */
+    VANILLA_MAX_HEALTH(s -> Math.min(20.0 + s.get(StatType.CON) * 2, 2048.0), StatType.CON),
+
+    /** 바닐라 이동 속도: {@code 0.1 + DEX * 0.0005} (최대 1.0) */
+    VANILLA_WALK_SPEED(s -> Math.min(0.1 + s.get(StatType.DEX) * 0.0005, 1.0), StatType.DEX);
+
+    /** 파생 수치 수 (배열 크기) */
+    public static final int COUNT = values().length;
+
+    /** 스탯별로 그 스탯을 입력으로 쓰는 파생 수치의 비트 */
+    private static final int[] DEPENDENTS = new int[StatType.COUNT];
+
+    static {
+        for (DerivedStat derived : values()) {
+            for (StatType input : StatType.values()) {
+                if ((derived.inputMask & input.bit()) != 0) {
+                    DEPENDENTS[input.ordinal()] |= derived.bit();
+                }
+            }
+        }
+    }
+
+    private final ToDoubleFunction<StatManager.PlayerStats> formula;
+    private final int inputMask;
+
+    DerivedStat(ToDoubleFunction<StatManager.PlayerStats> formula, StatType... inputs) {
+        this.formula = formula;
+        int mask = 0;
+        for (StatType input : inputs) {
+            mask |= input.bit();
+        }
+        this.inputMask = mask;
+    }
+
+    double compute(StatManager.PlayerStats stats) {
+        return formula.applyAsDouble(stats);
+    }
+
+    int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 스탯이 바뀌었을 때 무효화할 파생 수치의 비트를 반환합니다.
+     *
+     * @param type 바뀐 스탯
+     * @return 파생 수치 비트 마스크
+     */
+    static int dependentsOf(StatType type) {
+        return DEPENDENTS[type.ordinal()];
+    }
+}
@@ -1,7 +1,6 @@
 package com.dreamwork.core.stat;
 
 import com.dreamwork.core.DreamWorkCore;
-import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -9,32 +8,67 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerItemHeldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.scheduler.BukkitRunnable;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * 플레이어 장비 스캐너
  * 
  * <p>
- * 장비의 Lore에서 스탯을 읽어 PlayerStats에 반영합니다.
+ * 장비의 스탯(PDC, 없으면 Lore)을 읽어 PlayerStats에 반영합니다.
  * 장비 변경 이벤트 시 자동으로 스탯을 재계산합니다.
  * </p>
  */
 public class InventoryScanner implements Listener {
 
+    /** 스캔하는 장비 슬롯 수 (부츠, 각반, 흉갑, 헬멧, 메인핸드, 오프핸드) */
+    private static final int SLOT_COUNT = 6;
+
+    /** 방어구 슬롯 수 (세트 효과는 방어구만 확인) */
+    private static final int ARMOR_SLOTS = 4;
+
+    private static final int[] EMPTY = new int[5];
+
     private final DreamWorkCore plugin;
-    private final StatParser parser;
+    private final ItemStatCache statCache;
     private final StatManager statManager;
 
+    /** 재계산이 예약된 플레이어 (같은 틱의 이벤트는 한 번만 처리) */
+    private final Set<UUID> pending = new HashSet<>();
+
+    /** 플레이어별 마지막으로 적용한 장비 상태 */
+    private final Map<UUID, EquipmentState> states = new HashMap<>();
+
+    /**
+     * 마지막으로 적용한 슬롯별 아이템과 스탯
+     */
+    private static final class EquipmentState {
+        final ItemStack[] items = new ItemStack[SLOT_COUNT];
+        final int[][] stats = new int[SLOT_COUNT][];
+        int[] setBonuses = EMPTY;
+
+        /** 적용 대상 스탯 객체 (접속 시 새로 만들어지면 다시 적용) */
+        StatManager.PlayerStats appliedTo;
+
+        EquipmentState() {
+            Arrays.fill(stats, EMPTY);
+        }
+    }
+
     public InventoryScanner(DreamWorkCore plugin) {
         this.plugin = plugin;
-        this.parser = new StatParser();
+        this.statCache = new ItemStatCache(plugin, new StatParser(),
+                plugin.getConfig().getInt("stats.item-cache-size", 512));
         this.statManager = plugin.getStatManager();
     }
 
@@ -46,52 +80,55 @@ public class InventoryScanner implements Listener {
      */
     public int[] scan(Player player) {
         int[] totalStats = new int[5];
-        PlayerInventory inv = player.getInventory();
-
-        // 방어구 스캔 (헬멧, 흉갑, 각반, 부츠)
-        for (ItemStack armor : inv.getArmorContents()) {
-            addItemStats(armor, totalStats);
+        for (ItemStack item : equipment(player.getInventory())) {
+            addItemStats(statCache.get(item), totalStats);
         }
-
-        // 메인핸드 & 오프핸드
-        addItemStats(inv.getItemInMainHand(), totalStats);
-        addItemStats(inv.getItemInOffHand(), totalStats);
-
         return totalStats;
     }
 
     /**
-     * 아이템에서 스탯을 읽어 합산합니다.
+     * 장비 슬롯의 아이템을 고정된 순서로 반환합니다.
      */
-    private void addItemStats(ItemStack item, int[] stats) {
-        if (item == null || !item.hasItemMeta())
-            return;
-
-        ItemMeta meta = item.getItemMeta();
-        if (!meta.hasLore())
-            return;
-
-        // Adventure API lore -> String 변환
-        List<String> loreStrings = new ArrayList<>();
-        if (meta.lore() != null) {
-            for (var component : meta.lore()) {
-                loreStrings.add(PlainTextComponentSerializer.plainText().serialize(component));
-            }
+    private ItemStack[] equipment(PlayerInventory inv) {
+        ItemStack[] items = new ItemStack[SLOT_COUNT];
+        ItemStack[] armor = inv.getArmorContents();
+        for (int i = 0; i < ARMOR_SLOTS && i < armor.length; i++) {
+            items[i] = armor[i];
         }
+        items[4] = inv.getItemInMainHand();
+        items[5] = inv.getItemInOffHand();
+        return items;
+    }
 
-        int[] itemStats = parser.parseAllStats(loreStrings);
+    private static void addItemStats(int[] itemStats, int[] stats) {
         for (int i = 0; i < 5; i++) {
             stats[i] += itemStats[i];
         }
     }
 
+    private static boolean sameItem(ItemStack previous, ItemStack current) {
+        boolean previousEmpty = previous == null || previous.getType().isAir();
+        boolean currentEmpty = current == null || current.getType().isAir();
+        if (previousEmpty || currentEmpty) {
+            return previousEmpty == currentEmpty;
+        }
+        // 수량은 스탯과 무관
+        return previous.isSimilar(current);
+    }
+
     /**
      * 장비 변경 시 스탯 재계산을 스케줄링합니다.
+     * 같은 틱에 여러 번 호출되어도 다음 틱에 한 번만 실행됩니다.
      */
     public void scheduleRecalculate(Player player) {
+        UUID uuid = player.getUniqueId();
+        if (!pending.add(uuid)) {
+            return;
+        }
         new BukkitRunnable() {
             @Override
             public void run() {
+                pending.remove(uuid);
                 if (player.isOnline()) {
                     applyEquipmentStats(player);
                 }
@@ -101,40 +138,53 @@ public class InventoryScanner implements Listener {
 
     /**
      * 장비 스탯을 PlayerStats에 적용합니다.
+     * <p>
+     * 마지막으로 적용한 장비와 슬롯별로 비교해 바뀐 슬롯만 다시 읽고,
+     * 방어구가 그대로면 세트 효과도 다시 계산하지 않습니다.
+     * 바뀐 슬롯이 없으면 스탯 재계산을 생략합니다.
+     * </p>
      */
     public void applyEquipmentStats(Player player) {
-        int[] equipStats = scan(player);
-
         StatManager.PlayerStats stats = statManager.getStats(player);
+        EquipmentState state = states.computeIfAbsent(player.getUniqueId(), k -> new EquipmentState());
+        boolean force = state.appliedTo != stats;
+
+        ItemStack[] items = equipment(player.getInventory());
+        boolean changed = false;
+        boolean armorChanged = false;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            if (!force && sameItem(state.items[slot], items[slot])) {
+                continue;
+            }
+            state.items[slot] = items[slot] != null ? items[slot].clone() : null;
+            state.stats[slot] = statCache.get(items[slot]);
+            changed = true;
+            armorChanged |= slot < ARMOR_SLOTS;
+        }
+        if (!changed) {
+            return;
+        }
+
+        int[] equipStats = new int[StatType.COUNT];
+        for (int[] slotStats : state.stats) {
+            addItemStats(slotStats, equipStats);
+        }
 
         // 장비 보너스 설정
-        stats.setEquipmentStr(equipStats[0]);
-        stats.setEquipmentDex(equipStats[1]);
-        stats.setEquipmentCon(equipStats[2]);
-        stats.setEquipmentInt(equipStats[3]);
-        stats.setEquipmentLuck(equipStats[4]);
-
-        // 세트 효과 적용
-        if (plugin.getSetEffectManager() != null) {
-            java.util.Map<String, Integer> setBonuses = plugin.getSetEffectManager()
-                    .calculateSetBonuses(player.getInventory());
-            stats.setSetBonusStr(setBonuses.getOrDefault("STR", 0));
-            stats.setSetBonusDex(setBonuses.getOrDefault("DEX", 0));
-            stats.setSetBonusCon(setBonuses.getOrDefault("CON", 0));
-            stats.setSetBonusInt(setBonuses.getOrDefault("INT", 0));
-            stats.setSetBonusLuck(setBonuses.getOrDefault("LUCK", 0));
-
-            if (plugin.isDebugMode() && !setBonuses.isEmpty()) {
-                plugin.getLogger().info("[Debug] 세트 효과 적용: " + setBonuses);
+        stats.setLayer(StatLayer.EQUIPMENT, equipStats);
+
+        // 세트 효과 적용 (방어구가 바뀐 경우만 다시 계산)
+        if (armorChanged) {
+            state.setBonuses = plugin.getSetEffectManager() != null
+                    ? plugin.getSetEffectManager().calculateSetBonuses(player.getInventory())
+                    : EMPTY;
+
+            if (plugin.isDebugMode() && !Arrays.equals(state.setBonuses, EMPTY)) {
+                plugin.getLogger().info("[Debug] 세트 효과 적용: " + Arrays.toString(state.setBonuses));
             }
-        } else {
-            // 매니저가 없을 경우 0으로 초기화
-            stats.setSetBonusStr(0);
-            stats.setSetBonusDex(0);
-            stats.setSetBonusCon(0);
-            stats.setSetBonusInt(0);
-            stats.setSetBonusLuck(0);
         }
+        stats.setLayer(StatLayer.SET_BONUS, state.setBonuses);
+        state.appliedTo = stats;
 
         // 바닐라 속성 재적용
         statManager.recalculateStats(player);
@@ -143,7 +193,7 @@ public class InventoryScanner implements Listener {
             plugin.getLogger().info("[Debug] 장비 스탯 적용: " + player.getName() +
                     " [STR:" + equipStats[0] + ", DEX:" + equipStats[1] +
                     ", CON:" + equipStats[2] + ", INT:" + equipStats[3] +
-                    ", LUCK:" + equipStats[4] + "]");
+                    ", LUCK:" + equipStats[4] + "] " + statCache.describe());
         }
     }
 
@@ -154,6 +204,13 @@ public class InventoryScanner implements Listener {
         scheduleRecalculate(event.getPlayer());
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        pending.remove(uuid);
+        states.remove(uuid);
+    }
+
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onItemHeld(PlayerItemHeldEvent event) {
         scheduleRecalculate(event.getPlayer());
@@ -0,0 +1,151 @@
+package com.dreamwork.core.stat;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아이템별 장비 스탯 캐시
+ * <p>
+ * 아이템의 스탯 배열 [str, dex, con, int, luck]을 내용 기준으로 캐싱하여,
+ * 핫바 스크롤처럼 같은 장비를 반복해서 스캔할 때 Lore 직렬화와 파싱을 다시 하지 않습니다.
+ * </p>
+ * <ul>
+ * <li>{@link com.dreamwork.core.item.ItemFactory}로 만든 아이템: PDC {@code stats} JSON이 키이자 원본</li>
+ * <li>PDC 스탯이 없는 레거시 아이템: Lore 컴포넌트 목록이 키, Lore를 파싱한 결과가 값</li>
+ * </ul>
+ * <p>
+ * 키가 아이템 내용이므로 스탯이나 Lore가 바뀐 아이템은 자연히 새 항목이 됩니다.
+ * 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다. (메인 스레드 전용)
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class ItemStatCache {
+
+    private static final int[] EMPTY = new int[5];
+    private static final Type STATS_TYPE = new TypeToken<Map<String, Double>>() {
+    }.getType();
+
+    private final StatParser parser;
+    private final NamespacedKey statsKey;
+    private final Gson gson = new Gson();
+    private final int maxSize;
+
+    /** PDC JSON 문자열 또는 Lore 목록 → 스탯 배열 (접근 순서) */
+    private final LinkedHashMap<Object, int[]> entries;
+
+    private long hits;
+    private long misses;
+
+    public ItemStatCache(Plugin plugin, StatParser parser, int maxSize) {
+        this.parser = parser;
+        // ItemFactory가 스탯을 기록하는 키와 같음
+        this.statsKey = new NamespacedKey(plugin, "stats");
+        this.maxSize = Math.max(16, maxSize);
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, int[]> eldest) {
+                return size() > ItemStatCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 아이템의 스탯 배열을 반환합니다.
+     *
+     * @param item 아이템
+     * @return [str, dex, con, int, luck] (읽기 전용 - 수정하지 말 것)
+     */
+    public int[] get(ItemStack item) {
+        if (item == null || !item.hasItemMeta())
+            return EMPTY;
+
+        ItemMeta meta = item.getItemMeta();
+        String statsJson = meta.getPersistentDataContainer().get(statsKey, PersistentDataType.STRING);
+        if (statsJson != null && !statsJson.isEmpty()) {
+            int[] cached = entries.get(statsJson);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+            int[] stats = fromPdc(statsJson);
+            entries.put(statsJson, stats);
+            return stats;
+        }
+
+        if (!meta.hasLore())
+            return EMPTY;
+
+        List<Component> lore = meta.lore();
+        if (lore == null)
+            return EMPTY;
+
+        int[] cached = entries.get(lore);
+        if (cached != null) {
+            hits++;
+            return cached;
+        }
+        misses++;
+        int[] stats = fromLore(lore);
+        entries.put(lore, stats);
+        return stats;
+    }
+
+    /**
+     * PDC 스탯 JSON을 스탯 배열로 변환합니다. (기본 스탯이 아닌 항목은 무시)
+     */
+    private int[] fromPdc(String statsJson) {
+        int[] stats = new int[5];
+        try {
+            Map<String, Double> map = gson.fromJson(statsJson, STATS_TYPE);
+            if (map != null) {
+                for (Map.Entry<String, Double> entry : map.entrySet()) {
+                    int index = StatParser.baseStatIndex(entry.getKey());
+                    if (index >= 0 && entry.getValue() != null) {
+                        // Lore 표시와 같이 정수로 내림
+                        stats[index] += entry.getValue().intValue();
+                    }
+                }
+            }
+        } catch (JsonParseException e) {
+            // 손상된 PDC - 스탯 없음으로 처리
+        }
+        return stats;
+    }
+
+    /**
+     * 레거시 아이템의 Lore를 파싱합니다.
+     */
+    private int[] fromLore(List<Component> lore) {
+        List<String> lines = new ArrayList<>(lore.size());
+        for (Component component : lore) {
+            lines.add(PlainTextComponentSerializer.plainText().serialize(component));
+        }
+        return parser.parseAllStats(lines);
+    }
+
+    /**
+     * 캐시 상태를 한 줄로 반환합니다.
+     *
+     * @return 상태 요약
+     */
+    public String describe() {
+        return "아이템 스탯 캐시: " + entries.size() + "/" + maxSize + " (적중 " + hits + ", 파싱 " + misses + ")";
+    }
+}
@@ -0,0 +1,28 @@
+package com.dreamwork.core.stat;
+
+/**
+ * 스탯 출처 계층
+ * <p>
+ * 최종 스탯은 모든 계층의 합입니다. 기본 계층만 저장되고, 나머지는 접속 중 재계산됩니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public enum StatLayer {
+
+    /** 기본 스탯 (스탯 포인트 투자, DB 저장) */
+    BASE,
+
+    /** 직업 레벨 보너스 */
+    JOB,
+
+    /** 장비 스탯 */
+    EQUIPMENT,
+
+    /** 세트 효과 */
+    SET_BONUS;
+
+    /** 계층 수 (배열 크기) */
+    public static final int COUNT = values().length;
+}
@@ -5,6 +5,7 @@ import com.dreamwork.core.job.JobManager;
 import com.dreamwork.core.job.JobProvider;
 import com.dreamwork.core.job.UserJobData;
 import com.dreamwork.core.manager.Manager;
+import com.dreamwork.core.model.UserData;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.entity.Player;
@@ -107,6 +108,16 @@ public class StatManager extends Manager {
         return statsCache.computeIfAbsent(uuid, this::loadOrCreateStats);
     }
 
+    /**
+     * 캐시에 있는 스탯만 반환합니다. (없으면 새로 만들지 않음)
+     * 
+     * @param uuid 플레이어 UUID
+     * @return 플레이어 스탯 또는 null
+     */
+    public PlayerStats getCachedStats(UUID uuid) {
+        return statsCache.get(uuid);
+    }
+
     /**
      * 스탯을 로드하거나 새로 생성합니다.
      * 
@@ -178,14 +189,8 @@ public class StatManager extends Manager {
         UUID uuid = player.getUniqueId();
         PlayerStats stats = getStats(uuid);
 
-        // 보너스 스탯 초기화
-        stats.setBonusStr(0);
-        stats.setBonusDex(0);
-        stats.setBonusCon(0);
-        stats.setBonusInt(0);
-        stats.setBonusLuck(0);
-
         // 직업 레벨에 따른 스탯 보너스 계산
+        int[] jobBonus = new int[StatType.COUNT];
         JobManager jobManager = plugin.getJobManager();
         if (jobManager != null) {
             UserJobData jobData = jobManager.getUserJob(uuid);
@@ -193,24 +198,18 @@ public class StatManager extends Manager {
                 JobProvider job = jobManager.getJob(jobData.getJobId());
                 if (job != null) {
                     int jobLevel = jobData.getLevel();
-                    Map<String, Double> statsPerLevel = job.getStatsPerLevel();
 
                     // 각 스탯 보너스 적용
-                    for (Map.Entry<String, Double> entry : statsPerLevel.entrySet()) {
-                        String statName = entry.getKey().toLowerCase();
-                        int bonus = (int) (entry.getValue() * jobLevel);
-
-                        switch (statName) {
-                            case "str", "strength" -> stats.setBonusStr(stats.getBonusStr() + bonus);
-                            case "dex", "dexterity" -> stats.setBonusDex(stats.getBonusDex() + bonus);
-                            case "con", "constitution", "stamina" -> stats.setBonusCon(stats.getBonusCon() + bonus);
-                            case "int", "intelligence" -> stats.setBonusInt(stats.getBonusInt() + bonus);
-                            case "luck", "luk" -> stats.setBonusLuck(stats.getBonusLuck() + bonus);
+                    for (Map.Entry<String, Double> entry : job.getStatsPerLevel().entrySet()) {
+                        StatType type = StatType.fromName(entry.getKey());
+                        if (type != null) {
+                            jobBonus[type.ordinal()] += (int) (entry.getValue() * jobLevel);
                         }
                     }
                 }
             }
         }
+        stats.setLayer(StatLayer.JOB, jobBonus);
 
         if (plugin.getSkillManager().hasSkill(player, "tough_skin")) {
             // 단단한 피부: 받는 데미지 5% 감소 (여기서는 방어력 등으로 구현하거나, CombatListener에서 처리)
@@ -225,6 +224,12 @@ public class StatManager extends Manager {
         // 바닐라 속성 적용 (최대 체력 등)
         applyVanillaAttributes(player, stats);
 
+        // 마나 최대치/재생량 갱신 (현재 마나는 읽을 때 계산)
+        UserData userData = plugin.getStorageManager().getUserData(uuid);
+        if (userData != null) {
+            userData.getMana().updateRate(calculateMaxMana(player), calculateManaRegen(player));
+        }
+
         if (plugin.isDebugMode()) {
             plugin.getLogger().info("[Debug] 스탯 재계산: " + player.getName() +
                     " (STR:" + stats.getStr() +
@@ -243,22 +248,19 @@ public class StatManager extends Manager {
      */
     private void applyVanillaAttributes(Player player, PlayerStats stats) {
         // 최대 체력 적용 (기본 20 + CON * 2)
-        double maxHealth = 20.0 + (stats.getCon() * 2);
-        maxHealth = Math.min(maxHealth, 2048.0); // Spigot max limit is usually 2048
+        double maxHealth = stats.derived(DerivedStat.VANILLA_MAX_HEALTH);
 
+        // 값이 같으면 쓰지 않음 (속성 갱신 패킷 방지)
         AttributeInstance healthAttr = player.getAttribute(Attribute.GENERIC_MAX_HEALTH);
-        if (healthAttr != null) {
+        if (healthAttr != null && healthAttr.getBaseValue() != maxHealth) {
             healthAttr.setBaseValue(maxHealth);
         }
 
         // 이동 속도 적용 (기본 0.1 + DEX * 0.0005)
-        // 사용자 요구사항은 0.002이나 너무 빠를 수 있어 0.0005로 조정하거나, 요구사항대로 0.002 적용.
-        // 요구사항 엄수: AGI * 0.002. 여기선 DEX를 사용.
-        double walkSpeed = 0.1 + (stats.getDex() * 0.0005);
-        walkSpeed = Math.min(walkSpeed, 1.0); // 상한선
+        double walkSpeed = stats.derived(DerivedStat.VANILLA_WALK_SPEED);
 
         AttributeInstance speedAttr = player.getAttribute(Attribute.GENERIC_MOVEMENT_SPEED);
-        if (speedAttr != null) {
+        if (speedAttr != null && speedAttr.getBaseValue() != walkSpeed) {
             speedAttr.setBaseValue(walkSpeed);
         }
     }
@@ -273,9 +275,7 @@ public class StatManager extends Manager {
      * @return 최종 물리 데미지
      */
     public double calculatePhysicalDamage(Player player, double weaponDamage) {
-        PlayerStats stats = getStats(player);
-        double baseDamage = 1.0;
-        return weaponDamage + (stats.getStr() * 0.5) + baseDamage;
+        return weaponDamage + getStats(player).derived(DerivedStat.PHYSICAL_BONUS);
     }
 
     /**
@@ -285,9 +285,7 @@ public class StatManager extends Manager {
      * @return 치명타 확률 (0~50%)
      */
     public double calculateCritChance(Player player) {
-        PlayerStats stats = getStats(player);
-        double chance = 5.0 + (stats.getDex() * 0.2);
-        return Math.min(chance, 50.0); // 최대 50%
+        return getStats(player).derived(DerivedStat.CRIT_CHANCE);
     }
 
     /**
@@ -298,8 +296,7 @@ public class StatManager extends Manager {
      * @return 최대 체력
      */
     public double calculateMaxHealth(Player player, int jobLevel) {
-        PlayerStats stats = getStats(player);
-        return 20.0 + (stats.getCon() * 2) + (jobLevel * 0.5);
+        return 20.0 + (getStats(player).get(StatType.CON) * 2) + (jobLevel * 0.5);
     }
 
     /**
@@ -309,9 +306,7 @@ public class StatManager extends Manager {
      * @return 데미지 감소율 (0~100%)
      */
     public double calculateDamageReduction(Player player) {
-        PlayerStats stats = getStats(player);
-        int con = stats.getCon();
-        return ((double) con / (con + 100)) * 100;
+        return getStats(player).derived(DerivedStat.DAMAGE_REDUCTION);
     }
 
     /**
@@ -321,8 +316,7 @@ public class StatManager extends Manager {
      * @return 보너스 확률 (%)
      */
     public double calculateDropBonus(Player player) {
-        PlayerStats stats = getStats(player);
-        return stats.getLuck() * 0.5;
+        return getStats(player).derived(DerivedStat.DROP_BONUS);
     }
 
     /**
@@ -332,8 +326,7 @@ public class StatManager extends Manager {
      * @return 최대 마나
      */
     public double calculateMaxMana(Player player) {
-        PlayerStats stats = getStats(player);
-        return 100.0 + (stats.getInt() * 10.0);
+        return getStats(player).derived(DerivedStat.MAX_MANA);
     }
 
     /**
@@ -343,50 +336,42 @@ public class StatManager extends Manager {
      * @return 초당 마나 재생량
      */
     public double calculateManaRegen(Player player) {
-        PlayerStats stats = getStats(player);
-        return 5.0 + (stats.getInt() * 0.5);
+        return getStats(player).derived(DerivedStat.MANA_REGEN);
     }
 
     // ==================== 내부 클래스: PlayerStats ====================
 
     /**
      * 플레이어 스탯 데이터 클래스
+     * <p>
+     * 출처 계층({@link StatLayer})마다 [str, dex, con, int, luck] 배열 하나를 두고,
+     * 합계는 캐시하여 바뀐 스탯만 다시 더합니다. 파생 수치({@link DerivedStat})도
+     * 입력 스탯이 바뀔 때까지 메모이즈하므로 전투/채집 이벤트의 조회는 배열 읽기입니다.
+     * (메인 스레드 전용)
+     * </p>
      */
     public static class PlayerStats {
 
         private final UUID uuid;
 
-        /** 기본 스탯 */
-        private int str; // 힘
-        private int dex; // 민첩
-        private int con; // 체력
-        private int intelligence; // 지능 (int는 예약어)
-        private int luck; // 행운
+        /** 계층별 스탯 [계층][스탯] */
+        private final int[][] layers = new int[StatLayer.COUNT][StatType.COUNT];
+
+        /** 계층 합계 (캐시) */
+        private final int[] total = new int[StatType.COUNT];
+
+        /** 합계를 다시 계산해야 하는 스탯 (비트) */
+        private int dirtyMask;
+
+        /** 파생 수치 (캐시) */
+        private final double[] derived = new double[DerivedStat.COUNT];
+
+        /** 캐시가 유효한 파생 수치 (비트) */
+        private int derivedValidMask;
 
         /** 남은 스탯 포인트 */
         private int statPoints;
 
-        /** 보너스 스탯 (직업 레벨 등) */
-        private transient int bonusStr;
-        private transient int bonusDex;
-        private transient int bonusCon;
-        private transient int bonusInt;
-        private transient int bonusLuck;
-
-        /** 장비 스탯 */
-        private transient int equipmentStr;
-        private transient int equipmentDex;
-        private transient int equipmentCon;
-        private transient int equipmentInt;
-        private transient int equipmentLuck;
-
-        /** 세트 보너스 스탯 */
-        private transient int setBonusStr;
-        private transient int setBonusDex;
-        private transient int setBonusCon;
-        private transient int setBonusInt;
-        private transient int setBonusLuck;
-
         /**
          * PlayerStats 생성자 (기본 스탯)
          * 
@@ -394,82 +379,161 @@ public class StatManager extends Manager {
          */
         public PlayerStats(UUID uuid) {
             this.uuid = uuid;
-            this.str = 0;
-            this.dex = 0;
-            this.con = 0;
-            this.intelligence = 0;
-            this.luck = 0;
-            this.statPoints = 0;
         }
 
         /**
          * 스탯을 재계산합니다.
          */
         public void recalculate() {
-            // TODO: 2단계에서 장비 Lore 파싱, 버프 효과 계산
+            // TODO: 2단계에서 버프 효과 계산
+        }
+
+        // ==================== 계층 API ====================
+
+        /**
+         * 최종 스탯을 반환합니다. (모든 계층의 합)
+         * 
+         * @param type 스탯
+         * @return 합계
+         */
+        public int get(StatType type) {
+            int index = type.ordinal();
+            int bit = 1 << index;
+            if ((dirtyMask & bit) != 0) {
+                int sum = 0;
+                for (int[] layer : layers) {
+                    sum += layer[index];
+                }
+                total[index] = sum;
+                dirtyMask &= ~bit;
+            }
+            return total[index];
+        }
+
+        /**
+         * 한 계층의 스탯을 반환합니다.
+         * 
+         * @param layer 계층
+         * @param type  스탯
+         * @return 값
+         */
+        public int get(StatLayer layer, StatType type) {
+            return layers[layer.ordinal()][type.ordinal()];
+        }
+
+        /**
+         * 한 계층의 스탯을 설정합니다. 값이 같으면 캐시를 유지합니다.
+         * 
+         * @param layer 계층
+         * @param type  스탯
+         * @param value 값
+         */
+        public void set(StatLayer layer, StatType type, int value) {
+            int[] values = layers[layer.ordinal()];
+            int index = type.ordinal();
+            if (values[index] != value) {
+                values[index] = value;
+                invalidate(type);
+            }
+        }
+
+        /**
+         * 한 계층 전체를 설정합니다. 바뀐 스탯만 무효화합니다.
+         * 
+         * @param layer  계층
+         * @param values [str, dex, con, int, luck]
+         */
+        public void setLayer(StatLayer layer, int[] values) {
+            int[] current = layers[layer.ordinal()];
+            for (int i = 0; i < StatType.COUNT; i++) {
+                if (current[i] != values[i]) {
+                    current[i] = values[i];
+                    invalidate(StatType.of(i));
+                }
+            }
+        }
+
+        /**
+         * 파생 수치를 반환합니다. 입력 스탯이 바뀌지 않았으면 캐시된 값을 사용합니다.
+         * 
+         * @param stat 파생 수치
+         * @return 값
+         */
+        public double derived(DerivedStat stat) {
+            int bit = 1 << stat.ordinal();
+            if ((derivedValidMask & bit) == 0) {
+                derived[stat.ordinal()] = stat.compute(this);
+                derivedValidMask |= bit;
+            }
+            return derived[stat.ordinal()];
+        }
+
+        private void invalidate(StatType type) {
+            dirtyMask |= type.bit();
+            derivedValidMask &= ~DerivedStat.dependentsOf(type);
         }
 
         // Getters (총합 = 기본 + 직업보너스 + 장비 + 세트효과)
         public int getStr() {
-            return str + bonusStr + equipmentStr + setBonusStr;
+            return get(StatType.STR);
         }
 
         public int getDex() {
-            return dex + bonusDex + equipmentDex + setBonusDex;
+            return get(StatType.DEX);
         }
 
         public int getCon() {
-            return con + bonusCon + equipmentCon + setBonusCon;
+            return get(StatType.CON);
         }
 
         public int getInt() {
-            return intelligence + bonusInt + equipmentInt + setBonusInt;
+            return get(StatType.INT);
         }
 
         public int getLuck() {
-            return luck + bonusLuck + equipmentLuck + setBonusLuck;
+            return get(StatType.LUCK);
         }
 
         // Base Getters
         public int getBaseStr() {
-            return str;
+            return get(StatLayer.BASE, StatType.STR);
         }
 
         public int getBaseDex() {
-            return dex;
+            return get(StatLayer.BASE, StatType.DEX);
         }
 
         public int getBaseCon() {
-            return con;
+            return get(StatLayer.BASE, StatType.CON);
         }
 
         public int getBaseInt() {
-            return intelligence;
+            return get(StatLayer.BASE, StatType.INT);
         }
 
         public int getBaseLuck() {
-            return luck;
+            return get(StatLayer.BASE, StatType.LUCK);
         }
 
         // Setters (기본 스탯만)
         public void setStr(int str) {
-            this.str = str;
+            set(StatLayer.BASE, StatType.STR, str);
         }
 
         public void setDex(int dex) {
-            this.dex = dex;
+            set(StatLayer.BASE, StatType.DEX, dex);
         }
 
         public void setCon(int con) {
-            this.con = con;
+            set(StatLayer.BASE, StatType.CON, con);
         }
 
         public void setInt(int intelligence) {
-            this.intelligence = intelligence;
+            set(StatLayer.BASE, StatType.INT, intelligence);
         }
 
         public void setLuck(int luck) {
-            this.luck = luck;
+            set(StatLayer.BASE, StatType.LUCK, luck);
         }
 
         // Stat Points
@@ -485,90 +549,6 @@ public class StatManager extends Manager {
             this.statPoints += points;
         }
 
-        // Bonus Getters
-        public int getBonusStr() {
-            return bonusStr;
-        }
-
-        public int getBonusDex() {
-            return bonusDex;
-        }
-
-        public int getBonusCon() {
-            return bonusCon;
-        }
-
-        public int getBonusInt() {
-            return bonusInt;
-        }
-
-        public int getBonusLuck() {
-            return bonusLuck;
-        }
-
-        // Bonus Setters (장비/버프용)
-        public void setBonusStr(int bonus) {
-            this.bonusStr = bonus;
-        }
-
-        public void setBonusDex(int bonus) {
-            this.bonusDex = bonus;
-        }
-
-        public void setBonusCon(int bonus) {
-            this.bonusCon = bonus;
-        }
-
-        public void setBonusInt(int bonus) {
-            this.bonusInt = bonus;
-        }
-
-        public void setBonusLuck(int bonus) {
-            this.bonusLuck = bonus;
-        }
-
-        // Equipment Setters (장비용)
-        public void setEquipmentStr(int value) {
-            this.equipmentStr = value;
-        }
-
-        public void setEquipmentDex(int value) {
-            this.equipmentDex = value;
-        }
-
-        public void setEquipmentCon(int value) {
-            this.equipmentCon = value;
-        }
-
-        public void setEquipmentInt(int value) {
-            this.equipmentInt = value;
-        }
-
-        public void setEquipmentLuck(int value) {
-            this.equipmentLuck = value;
-        }
-
-        // Set Bonus Setters
-        public void setSetBonusStr(int value) {
-            this.setBonusStr = value;
-        }
-
-        public void setSetBonusDex(int value) {
-            this.setBonusDex = value;
-        }
-
-        public void setSetBonusCon(int value) {
-            this.setBonusCon = value;
-        }
-
-        public void setSetBonusInt(int value) {
-            this.setBonusInt = value;
-        }
-
-        public void setSetBonusLuck(int value) {
-            this.setBonusLuck = value;
-        }
-
         public UUID getUuid() {
             return uuid;
         }
@@ -1,31 +1,36 @@
 package com.dreamwork.core.stat;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 아이템 Lore/텍스트에서 스탯을 파싱하는 엔진
- * 
+ *
  * <p>
- * 정규표현식을 사용하여 "힘: +10", "채굴 속도: +5%" 등의 패턴을 인식합니다.
+ * "힘: +10", "채굴 속도: +5%" 등의 패턴을 인식합니다.
+ * 정규표현식 대신 미리 만들어 둔 별칭 표로 줄을 한 번만 훑으며,
+ * 콜론마다 바로 앞의 이름이 어떤 스탯의 별칭으로 끝나는지 확인합니다.
+ * 호출마다 패턴을 컴파일하지 않습니다.
  * </p>
- * 
+ *
  * <h2>지원 패턴:</h2>
  * <ul>
  * <li>{@code "힘: +10"} or {@code "STR: +10"}</li>
  * <li>{@code "공격력: 15"} (부호 없음)</li>
  * <li>{@code "치명타: +5%"} (퍼센트)</li>
  * </ul>
+ * <p>
+ * 이름은 대소문자를 구분하지 않고, 이름과 콜론({@code :} 또는 {@code ：}) 사이, 콜론과 값 사이의 공백은 무시합니다.
+ * 한 줄에서 같은 스탯은 처음 나온 값만 사용합니다.
+ * </p>
  */
 public class StatParser {
 
-    // 정수 패턴: "스탯이름: +숫자" 또는 "스탯이름: 숫자"
-    private static final String INT_PATTERN_TEMPLATE = "(?i)%s\\s*[:：]\\s*[+]?(\\d+)";
-
-    // 퍼센트 패턴: "스탯이름: +숫자%"
-    private static final String PERCENT_PATTERN_TEMPLATE = "(?i)%s\\s*[:：]\\s*[+]?([\\d.]+)\\s*%%";
+    /** 값이 없음 (숫자가 이어지지 않음) */
+    private static final long NO_VALUE = Long.MIN_VALUE;
 
-    // 스탯 이름 별칭 매핑
+    // 스탯 이름 별칭 매핑 (앞의 5개는 parseAllStats 결과 순서와 같음)
     private static final String[][] STAT_ALIASES = {
             { "str", "힘", "strength", "공격력" },
             { "dex", "민첩", "dexterity", "속도" },
@@ -37,9 +42,36 @@ public class StatParser {
             { "fishing", "낚시", "fishing_speed", "낚시속도" }
     };
 
+    /** parseAllStats가 읽는 기본 스탯 수 (str, dex, con, int, luck) */
+    private static final int BASE_STAT_COUNT = 5;
+
+    /** 별칭 그룹 (소문자 문자 배열) */
+    private static final char[][][] ALIAS_GROUPS = new char[STAT_ALIASES.length][][];
+
+    /** 별칭(소문자) → 소속 그룹 */
+    private static final Map<String, char[][]> GROUP_BY_ALIAS = new HashMap<>();
+
+    /** 별칭(소문자) → 그룹 번호 */
+    private static final Map<String, Integer> INDEX_BY_ALIAS = new HashMap<>();
+
+    static {
+        for (int g = 0; g < STAT_ALIASES.length; g++) {
+            String[] aliases = STAT_ALIASES[g];
+            char[][] group = new char[aliases.length][];
+            for (int i = 0; i < aliases.length; i++) {
+                group[i] = lowerAscii(aliases[i]).toCharArray();
+            }
+            ALIAS_GROUPS[g] = group;
+            for (String alias : aliases) {
+                GROUP_BY_ALIAS.putIfAbsent(lowerAscii(alias), group);
+                INDEX_BY_ALIAS.putIfAbsent(lowerAscii(alias), g);
+            }
+        }
+    }
+
     /**
      * 텍스트에서 정수 스탯 값을 파싱합니다.
-     * 
+     *
      * @param line     파싱할 텍스트 라인
      * @param statName 스탯 이름 (대소문자 무시)
      * @return 파싱된 정수 값 (없으면 0)
@@ -48,14 +80,16 @@ public class StatParser {
         if (line == null || statName == null)
             return 0;
 
-        String pattern = buildPattern(INT_PATTERN_TEMPLATE, statName);
-        Matcher matcher = Pattern.compile(pattern).matcher(stripColorCodes(line));
+        char[][] aliases = resolveAliases(statName);
+        char[] buf = new char[line.length()];
+        int len = stripColorCodes(line, buf);
 
-        if (matcher.find()) {
-            try {
-                return Integer.parseInt(matcher.group(1));
-            } catch (NumberFormatException e) {
-                return 0;
+        for (int colon = nextColon(buf, len, 0); colon >= 0; colon = nextColon(buf, len, colon + 1)) {
+            if (endsWithAny(buf, keyEnd(buf, colon), aliases)) {
+                long value = readInt(buf, len, valueStart(buf, len, colon));
+                if (value != NO_VALUE) {
+                    return (int) value;
+                }
             }
         }
         return 0;
@@ -63,7 +97,7 @@ public class StatParser {
 
     /**
      * 텍스트에서 퍼센트 스탯 값을 파싱합니다.
-     * 
+     *
      * @param line     파싱할 텍스트 라인
      * @param statName 스탯 이름
      * @return 파싱된 퍼센트 값 (없으면 0.0)
@@ -72,14 +106,16 @@ public class StatParser {
         if (line == null || statName == null)
             return 0.0;
 
-        String pattern = buildPattern(PERCENT_PATTERN_TEMPLATE, statName);
-        Matcher matcher = Pattern.compile(pattern).matcher(stripColorCodes(line));
+        char[][] aliases = resolveAliases(statName);
+        char[] buf = new char[line.length()];
+        int len = stripColorCodes(line, buf);
 
-        if (matcher.find()) {
-            try {
-                return Double.parseDouble(matcher.group(1));
-            } catch (NumberFormatException e) {
-                return 0.0;
+        for (int colon = nextColon(buf, len, 0); colon >= 0; colon = nextColon(buf, len, colon + 1)) {
+            if (endsWithAny(buf, keyEnd(buf, colon), aliases)) {
+                double value = readPercent(buf, len, valueStart(buf, len, colon));
+                if (!Double.isNaN(value)) {
+                    return value;
+                }
             }
         }
         return 0.0;
@@ -87,7 +123,7 @@ public class StatParser {
 
     /**
      * 텍스트가 특정 스탯 패턴과 일치하는지 확인합니다.
-     * 
+     *
      * @param line     텍스트 라인
      * @param statName 스탯 이름
      * @return 매칭 여부
@@ -96,69 +132,235 @@ public class StatParser {
         if (line == null || statName == null)
             return false;
 
-        String intPattern = buildPattern(INT_PATTERN_TEMPLATE, statName);
-        String percentPattern = buildPattern(PERCENT_PATTERN_TEMPLATE, statName);
-        String cleanLine = stripColorCodes(line);
+        char[][] aliases = resolveAliases(statName);
+        char[] buf = new char[line.length()];
+        int len = stripColorCodes(line, buf);
 
-        return Pattern.compile(intPattern).matcher(cleanLine).find() ||
-                Pattern.compile(percentPattern).matcher(cleanLine).find();
+        for (int colon = nextColon(buf, len, 0); colon >= 0; colon = nextColon(buf, len, colon + 1)) {
+            if (endsWithAny(buf, keyEnd(buf, colon), aliases)) {
+                int start = valueStart(buf, len, colon);
+                if (readInt(buf, len, start) != NO_VALUE || !Double.isNaN(readPercent(buf, len, start))) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     /**
-     * 스탯 이름과 모든 별칭을 OR 패턴으로 결합합니다.
+     * 모든 기본 스탯을 한 번에 파싱합니다.
+     * 각 줄을 한 번만 훑으며 다섯 스탯을 함께 찾습니다.
+     *
+     * @param lore 아이템 Lore 전체
+     * @return 파싱된 스탯 배열 [str, dex, con, int, luck]
      */
-    private String buildPattern(String template, String statName) {
-        StringBuilder aliasPattern = new StringBuilder();
-        aliasPattern.append("(?:");
-        aliasPattern.append(Pattern.quote(statName));
+    public int[] parseAllStats(List<String> lore) {
+        int[] stats = new int[BASE_STAT_COUNT]; // str, dex, con, int, luck
 
-        // 별칭 추가
-        for (String[] aliases : STAT_ALIASES) {
-            for (String alias : aliases) {
-                if (alias.equalsIgnoreCase(statName)) {
-                    // 이 그룹의 모든 별칭 추가
-                    for (String a : aliases) {
-                        aliasPattern.append("|").append(Pattern.quote(a));
+        if (lore == null)
+            return stats;
+
+        char[] buf = new char[64];
+        for (String line : lore) {
+            if (line == null)
+                continue;
+            if (buf.length < line.length()) {
+                buf = new char[line.length()];
+            }
+            int len = stripColorCodes(line, buf);
+
+            int found = 0; // 이 줄에서 이미 찾은 스탯 (비트)
+            for (int colon = nextColon(buf, len, 0); colon >= 0; colon = nextColon(buf, len, colon + 1)) {
+                int keyEnd = keyEnd(buf, colon);
+                long value = NO_VALUE;
+                boolean parsed = false;
+
+                for (int stat = 0; stat < BASE_STAT_COUNT; stat++) {
+                    if ((found & (1 << stat)) != 0 || !endsWithAny(buf, keyEnd, ALIAS_GROUPS[stat])) {
+                        continue;
                     }
-                    break;
+                    if (!parsed) {
+                        value = readInt(buf, len, valueStart(buf, len, colon));
+                        parsed = true;
+                    }
+                    if (value == NO_VALUE) {
+                        break;
+                    }
+                    stats[stat] += (int) value;
+                    found |= 1 << stat;
                 }
             }
         }
-        aliasPattern.append(")");
 
-        return String.format(template, aliasPattern.toString());
+        return stats;
     }
 
     /**
-     * 마인크래프트 색상 코드를 제거합니다.
+     * 스탯 이름(별칭 포함)이 가리키는 기본 스탯의 위치를 반환합니다.
+     * (PDC 스탯처럼 이름과 값이 분리된 데이터를 {@link #parseAllStats} 결과와 같은 배열로 모을 때 사용)
+     *
+     * @param statName 스탯 이름 (대소문자 무시)
+     * @return 0~4 (str, dex, con, int, luck), 기본 스탯이 아니면 -1
      */
-    private String stripColorCodes(String text) {
-        if (text == null)
-            return "";
-        // §X 및 &X 형식 제거
-        return text.replaceAll("[§&][0-9a-fk-orA-FK-OR]", "");
+    public static int baseStatIndex(String statName) {
+        if (statName == null)
+            return -1;
+        Integer index = INDEX_BY_ALIAS.get(lowerAscii(statName));
+        return index != null && index < BASE_STAT_COUNT ? index : -1;
     }
 
+    // ==================== 토크나이저 ====================
+
     /**
-     * 모든 기본 스탯을 한 번에 파싱합니다.
-     * 
-     * @param lore 아이템 Lore 전체
-     * @return 파싱된 스탯 배열 [str, dex, con, int, luck]
+     * 스탯 이름과 모든 별칭을 반환합니다. 알 수 없는 이름이면 그 이름만 사용합니다.
      */
-    public int[] parseAllStats(java.util.List<String> lore) {
-        int[] stats = new int[5]; // str, dex, con, int, luck
+    private char[][] resolveAliases(String statName) {
+        String key = lowerAscii(statName);
+        char[][] group = GROUP_BY_ALIAS.get(key);
+        return group != null ? group : new char[][] { key.toCharArray() };
+    }
 
-        if (lore == null)
-            return stats;
+    /**
+     * 마인크래프트 색상 코드(§X, &X)를 제거하며 문자를 복사합니다.
+     *
+     * @return 복사한 길이
+     */
+    private static int stripColorCodes(String text, char[] out) {
+        int len = 0;
+        int n = text.length();
+        for (int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            if ((c == '§' || c == '&') && i + 1 < n && isColorCode(text.charAt(i + 1))) {
+                i++;
+                continue;
+            }
+            out[len++] = c;
+        }
+        return len;
+    }
 
-        for (String line : lore) {
-            stats[0] += parseInt(line, "str");
-            stats[1] += parseInt(line, "dex");
-            stats[2] += parseInt(line, "con");
-            stats[3] += parseInt(line, "int");
-            stats[4] += parseInt(line, "luck");
+    private static boolean isColorCode(char c) {
+        return (c >= '0' && c <= '9')
+                || (c >= 'a' && c <= 'f') || (c >= 'k' && c <= 'o') || c == 'r'
+                || (c >= 'A' && c <= 'F') || (c >= 'K' && c <= 'O') || c == 'R';
+    }
+
+    private static int nextColon(char[] buf, int len, int from) {
+        for (int i = from; i < len; i++) {
+            if (buf[i] == ':' || buf[i] == '：') {
+                return i;
+            }
         }
+        return -1;
+    }
 
-        return stats;
+    /**
+     * 콜론 앞의 공백을 건너뛴 이름 끝 위치를 반환합니다.
+     */
+    private static int keyEnd(char[] buf, int colon) {
+        int end = colon;
+        while (end > 0 && isSpace(buf[end - 1])) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean endsWithAny(char[] buf, int keyEnd, char[][] aliases) {
+        for (char[] alias : aliases) {
+            int start = keyEnd - alias.length;
+            if (start < 0) {
+                continue;
+            }
+            boolean match = true;
+            for (int i = 0; i < alias.length; i++) {
+                if (lowerAscii(buf[start + i]) != alias[i]) {
+                    match = false;
+                    break;
+                }
+            }
+            if (match) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 콜론 뒤의 공백과 {@code +} 부호를 건너뛴 값 시작 위치를 반환합니다.
+     */
+    private static int valueStart(char[] buf, int len, int colon) {
+        int i = colon + 1;
+        while (i < len && isSpace(buf[i])) {
+            i++;
+        }
+        if (i < len && buf[i] == '+') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 정수 값을 읽습니다. 숫자가 없으면 {@link #NO_VALUE}, int 범위를 넘으면 0을 반환합니다.
+     */
+    private static long readInt(char[] buf, int len, int start) {
+        long value = 0;
+        int i = start;
+        boolean overflow = false;
+        while (i < len && isDigit(buf[i])) {
+            if (!overflow) {
+                value = value * 10 + (buf[i] - '0');
+                overflow = value > Integer.MAX_VALUE;
+            }
+            i++;
+        }
+        if (i == start) {
+            return NO_VALUE;
+        }
+        return overflow ? 0 : value;
+    }
+
+    /**
+     * 퍼센트 값({@code 숫자%})을 읽습니다. 형식이 맞지 않으면 NaN, 숫자 형식이 잘못되면 0을 반환합니다.
+     */
+    private static double readPercent(char[] buf, int len, int start) {
+        int i = start;
+        while (i < len && (isDigit(buf[i]) || buf[i] == '.')) {
+            i++;
+        }
+        if (i == start) {
+            return Double.NaN;
+        }
+        int end = i;
+        while (i < len && isSpace(buf[i])) {
+            i++;
+        }
+        if (i >= len || buf[i] != '%') {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(new String(buf, start, end - start));
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static char lowerAscii(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static String lowerAscii(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            sb.append(lowerAscii(text.charAt(i)));
+        }
+        return sb.toString();
     }
 }
@@ -0,0 +1,80 @@
+package com.dreamwork.core.stat;
+
+/**
+ * 기본 스탯 종류
+ * <p>
+ * 순서(ordinal)가 곧 스탯 배열의 위치입니다. ({@link StatParser#parseAllStats},
+ * 아이템/세트 스탯 배열과 같은 [str, dex, con, int, luck] 순서)
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public enum StatType {
+
+    /** 힘 (물리 공격력) */
+    STR("힘"),
+
+    /** 민첩 (치명타, 이동 속도) */
+    DEX("민첩"),
+
+    /** 체력 (최대 체력, 방어력) */
+    CON("체력"),
+
+    /** 지능 (마나, 스킬) */
+    INT("지능"),
+
+    /** 행운 (채집/드롭 보너스) */
+    LUCK("행운");
+
+    /** 스탯 수 (배열 크기) */
+    public static final int COUNT = values().length;
+
+    private static final StatType[] VALUES = values();
+
+    private final String displayName;
+
+    StatType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * 이 스탯의 비트를 반환합니다.
+     *
+     * @return 비트 마스크
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 배열 위치로 스탯을 찾습니다.
+     *
+     * @param index 0~4
+     * @return 스탯
+     */
+    public static StatType of(int index) {
+        return VALUES[index];
+    }
+
+    /**
+     * 이름(별칭 포함)으로 스탯을 찾습니다. ("str", "힘", "LUCK", "luk" 등)
+     * <p>
+     * 직업 설정에서 쓰던 "stamina"도 체력으로 인식합니다. (아이템 로어 별칭에는 없음)
+     * </p>
+     *
+     * @param name 스탯 이름
+     * @return 스탯 또는 null
+     */
+    public static StatType fromName(String name) {
+        int index = StatParser.baseStatIndex(name);
+        if (index >= 0) {
+            return VALUES[index];
+        }
+        return "stamina".equalsIgnoreCase(name) ? CON : null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.dreamwork.core.stat.resource;
+
+import org.bukkit.Bukkit;
+
+/**
+ * 플레이어 마나 (지연 재생)
+ * <p>
+ * 매 초 모든 플레이어의 마나를 갱신하는 대신, 마지막 갱신 시점의 값/틱과 틱당 재생량만 보관하고
+ * 읽을 때 경과한 틱만큼 재생량을 더해 현재 값을 계산합니다.
+ * 최대 마나와 재생량은 스탯이 바뀔 때만 {@link #updateRate(double, double)}로 다시 설정합니다.
+ * </p>
+ * <p>
+ * 서버 틱 기준이므로 서버가 느려지면 재생도 느려집니다. (기존 틱 타이머와 동일)
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class ManaPool {
+
+    /** 기본 최대 마나 (스탯 반영 전) */
+    public static final double BASE_MAX = 100.0;
+
+    /** 기본 초당 재생량 (스탯 반영 전) */
+    public static final double BASE_REGEN = 5.0;
+
+    private double value = BASE_MAX;
+    private double max = BASE_MAX;
+    private double regenPerTick = BASE_REGEN / 20.0;
+    private long lastTick = currentTick();
+
+    /**
+     * 현재 마나를 반환합니다.
+     *
+     * @return 현재 마나
+     */
+    public synchronized double current() {
+        settle();
+        return value;
+    }
+
+    /**
+     * 최대 마나를 반환합니다.
+     *
+     * @return 최대 마나
+     */
+    public synchronized double getMax() {
+        return max;
+    }
+
+    /**
+     * 초당 재생량을 반환합니다.
+     *
+     * @return 초당 재생량
+     */
+    public synchronized double getRegenPerSecond() {
+        return regenPerTick * 20.0;
+    }
+
+    /**
+     * 마나를 설정합니다. (DB 로드, 관리자 명령 등 - 최대치를 넘어도 그대로 둠)
+     *
+     * @param mana 마나
+     */
+    public synchronized void set(double mana) {
+        settle();
+        value = Math.max(0.0, mana);
+    }
+
+    /**
+     * 마나를 소모합니다. 확인과 차감은 원자적으로 수행됩니다.
+     *
+     * @param amount 소모량
+     * @return 소모했으면 true, 마나가 부족하면 false
+     */
+    public synchronized boolean consume(double amount) {
+        settle();
+        if (value < amount) {
+            return false;
+        }
+        value -= amount;
+        return true;
+    }
+
+    /**
+     * 마나를 회복합니다. (최대 마나까지)
+     *
+     * @param amount 회복량
+     */
+    public synchronized void restore(double amount) {
+        settle();
+        if (value < max) {
+            value = Math.min(max, value + amount);
+        }
+    }
+
+    /**
+     * 최대 마나와 재생량을 다시 설정합니다. (스탯 재계산 시)
+     * 지금까지의 재생은 이전 재생량으로 먼저 반영합니다.
+     *
+     * @param max            최대 마나
+     * @param regenPerSecond 초당 재생량
+     */
+    public synchronized void updateRate(double max, double regenPerSecond) {
+        settle();
+        this.max = max;
+        this.regenPerTick = Math.max(0.0, regenPerSecond) / 20.0;
+    }
+
+    /**
+     * 마지막 갱신 이후 경과한 틱만큼 재생량을 반영합니다.
+     */
+    private void settle() {
+        long now = currentTick();
+        long elapsed = now - lastTick;
+        if (elapsed <= 0) {
+            return;
+        }
+        lastTick = now;
+        if (value < max) {
+            value = Math.min(max, value + regenPerTick * elapsed);
+        }
+    }
+
+    private static long currentTick() {
+        return Bukkit.getCurrentTick();
+    }
+}
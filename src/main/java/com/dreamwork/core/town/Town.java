@@ -0,0 +1,124 @@
+package com.dreamwork.core.town;
+
+import java.util.UUID;
+
+/**
+ * 메모리에 보관되는 마을
+ * <p>
+ * 은행 잔고는 이 객체가 원본이며, 변경되면 더티로 표시되어
+ * {@link TownManager}가 주기적으로 DB에 일괄 기록합니다.
+ * 잔고 확인과 변경은 객체 단위로 동기화되어 원자적으로 수행됩니다.
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class Town {
+
+    private final int id;
+    private final String name;
+    private final UUID owner;
+
+    private double balance;
+    private boolean dirty;
+
+    Town(int id, String name, UUID owner, double balance) {
+        this.id = id;
+        this.name = name;
+        this.owner = owner;
+        this.balance = balance;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public UUID getOwner() {
+        return owner;
+    }
+
+    /**
+     * 촌장인지 확인합니다.
+     *
+     * @param uuid 플레이어 UUID
+     * @return 촌장이면 true
+     */
+    public boolean isOwner(UUID uuid) {
+        return owner.equals(uuid);
+    }
+
+    public synchronized double getBalance() {
+        return balance;
+    }
+
+    /**
+     * 잔고가 충분한지 확인합니다.
+     *
+     * @param amount 금액
+     * @return 잔고가 금액 이상이면 true
+     */
+    public synchronized boolean has(double amount) {
+        return balance >= amount;
+    }
+
+    /**
+     * 마을 은행에 입금합니다.
+     *
+     * @param amount 금액 (0 이하 무시)
+     */
+    public synchronized void deposit(double amount) {
+        if (amount <= 0) {
+            return;
+        }
+        balance += amount;
+        dirty = true;
+    }
+
+    /**
+     * 마을 은행에서 출금합니다. 잔고 확인과 차감은 원자적으로 수행됩니다.
+     *
+     * @param amount 금액
+     * @return 출금되었으면 true, 잔고가 부족하면 false
+     */
+    public synchronized boolean withdraw(double amount) {
+        if (amount <= 0 || balance < amount) {
+            return false;
+        }
+        balance -= amount;
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * 변경된 잔고를 꺼내고 더티 표시를 지웁니다. (기록 시)
+     *
+     * @return 현재 잔고, 변경이 없으면 null
+     */
+    synchronized Double takeDirtyBalance() {
+        if (!dirty) {
+            return null;
+        }
+        dirty = false;
+        return balance;
+    }
+
+    /**
+     * 다시 기록 대상으로 표시합니다. (기록 실패 시)
+     */
+    synchronized void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * 현재 상태를 불변 정보로 반환합니다.
+     *
+     * @return 마을 정보
+     */
+    public TownInfo toInfo() {
+        return new TownInfo(id, name, owner.toString(), getBalance());
+    }
+}
@@ -13,10 +13,6 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -99,40 +95,27 @@ public class TownCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
-        // DB 작업 (비동기)
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-                // 중복 검사
-                try (PreparedStatement checkStmt = conn
-                        .prepareStatement("SELECT 1 FROM dw_towns WHERE town_name = ?")) {
-                    checkStmt.setString(1, townName);
-                    if (checkStmt.executeQuery().next()) {
-                        sendMessage(player, "&c이미 존재하는 마을 이름입니다.");
-                        return;
-                    }
-                }
-
-                // 마을 생성
-                String sql = "INSERT INTO dw_towns (town_name, owner_uuid, bank_balance) VALUES (?, ?, ?)";
-                try (PreparedStatement insertStmt = conn.prepareStatement(sql)) {
-                    insertStmt.setString(1, townName);
-                    insertStmt.setString(2, player.getUniqueId().toString());
-                    insertStmt.setDouble(3, 0.0); // 초기 자금 0
-                    insertStmt.executeUpdate();
-                }
-
-                // 비용 차감 및 메시지 (동기)
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
-                    econ.withdrawPlayer(player, cost);
-                    sendMessage(player, "&a성공적으로 마을 '" + townName + "'을(를) 생성했습니다!");
-                    sendMessage(player, "&7(생성 비용 " + econ.format(cost) + " 차감됨)");
-                });
-
-            } catch (SQLException e) {
-                plugin.getLogger().severe("마을 생성 실패: " + e.getMessage());
+        TownManager towns = plugin.getTownManager();
+        if (towns.isNameTaken(townName)) {
+            sendMessage(player, "&c이미 존재하는 마을 이름입니다.");
+            return;
+        }
+
+        // DB 기록 (비동기) 후 비용 차감 및 메시지 (동기)
+        towns.createTown(townName, player.getUniqueId()).whenCompleteAsync((town, error) -> {
+            if (error != null) {
                 sendMessage(player, "&c마을 생성 중 내부 오류가 발생했습니다.");
+                return;
+            }
+            if (town == null) {
+                sendMessage(player, "&c이미 존재하는 마을 이름입니다.");
+                return;
             }
-        });
+
+            econ.withdrawPlayer(player, cost);
+            sendMessage(player, "&a성공적으로 마을 '" + townName + "'을(를) 생성했습니다!");
+            sendMessage(player, "&7(생성 비용 " + econ.format(cost) + " 차감됨)");
+        }, plugin.getIoExecutor().sync());
     }
 
     private void handleBank(Player player, String[] args) {
@@ -170,17 +153,13 @@ public class TownCommand implements CommandExecutor, TabCompleter {
     }
 
     private void checkBankBalance(Player player) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            Integer townId = getPlayerTownId(player);
-
-            if (townId == null) {
-                sendMessage(player, "&c가입된 마을이 없습니다.");
-                return;
-            }
+        Town town = getPlayerTown(player);
+        if (town == null) {
+            sendMessage(player, "&c가입된 마을이 없습니다.");
+            return;
+        }
 
-            double balance = getTownBalance(townId);
-            sendMessage(player, "&6[마을 은행] &f현재 잔고: &e" + DreamWorkCore.getEconomy().format(balance));
-        });
+        sendMessage(player, "&6[마을 은행] &f현재 잔고: &e" + DreamWorkCore.getEconomy().format(town.getBalance()));
     }
 
     private void depositBank(Player player, double amount) {
@@ -190,128 +169,50 @@ public class TownCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            Integer townId = getPlayerTownId(player);
-            if (townId == null) {
-                sendMessage(player, "&c가입된 마을이 없습니다.");
-                return;
-            }
+        Town town = getPlayerTown(player);
+        if (town == null) {
+            sendMessage(player, "&c가입된 마을이 없습니다.");
+            return;
+        }
 
-            try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-                // 입금 처리
-                String sql = "UPDATE dw_towns SET bank_balance = bank_balance + ? WHERE town_id = ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setDouble(1, amount);
-                    stmt.setInt(2, townId);
-                    stmt.executeUpdate();
-                }
-
-                // 플레이어 돈 차감 (동기)
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
-                    econ.withdrawPlayer(player, amount);
-                    sendMessage(player, "&a마을 은행에 " + econ.format(amount) + "을(를) 입금했습니다.");
-                });
-
-            } catch (SQLException e) {
-                e.printStackTrace();
-                sendMessage(player, "&c입금 처리 중 오류가 발생했습니다.");
-            }
-        });
+        // 플레이어 돈 차감 후 입금 (DB 기록은 TownManager가 모아서 처리)
+        if (!econ.withdrawPlayer(player, amount).transactionSuccess()) {
+            sendMessage(player, "&c입금 처리 중 오류가 발생했습니다.");
+            return;
+        }
+        town.deposit(amount);
+        sendMessage(player, "&a마을 은행에 " + econ.format(amount) + "을(를) 입금했습니다.");
     }
 
     private void withdrawBank(Player player, double amount) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            TownInfo info = getPlayerTownInfo(player);
-            if (info == null) {
-                sendMessage(player, "&c가입된 마을이 없습니다.");
-                return;
-            }
+        Town town = getPlayerTown(player);
+        if (town == null) {
+            sendMessage(player, "&c가입된 마을이 없습니다.");
+            return;
+        }
 
-            // 권한 체크 (촌장만)
-            if (!info.ownerUuid.equals(player.getUniqueId().toString())) {
-                sendMessage(player, "&c마을 촌장만 출금할 수 있습니다.");
-                return;
-            }
+        // 권한 체크 (촌장만)
+        if (!town.isOwner(player.getUniqueId())) {
+            sendMessage(player, "&c마을 촌장만 출금할 수 있습니다.");
+            return;
+        }
 
-            if (info.balance < amount) {
-                sendMessage(player, "&c마을 은행 잔고가 부족합니다.");
-                return;
-            }
+        // 출금 처리 (잔고 확인과 차감을 한 번에 수행)
+        if (!town.withdraw(amount)) {
+            sendMessage(player, "&c마을 은행 잔고가 부족합니다.");
+            return;
+        }
 
-            try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-                // 출금 처리
-                String sql = "UPDATE dw_towns SET bank_balance = bank_balance - ? WHERE town_id = ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setDouble(1, amount);
-                    stmt.setInt(2, info.id);
-                    stmt.executeUpdate();
-                }
-
-                // 플레이어 돈 지급 (동기)
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
-                    Economy econ = DreamWorkCore.getEconomy();
-                    econ.depositPlayer(player, amount);
-                    sendMessage(player, "&e마을 은행에서 " + econ.format(amount) + "을(를) 출금했습니다.");
-                });
-
-            } catch (SQLException e) {
-                e.printStackTrace();
-                sendMessage(player, "&c출금 처리 중 오류가 발생했습니다.");
-            }
-        });
+        Economy econ = DreamWorkCore.getEconomy();
+        econ.depositPlayer(player, amount);
+        sendMessage(player, "&e마을 은행에서 " + econ.format(amount) + "을(를) 출금했습니다.");
     }
 
-    // --- Helper Methods (DB Access Helpers - should be in TownManager later) ---
-
-    private record TownInfo(int id, String name, String ownerUuid, double balance) {
-    }
+    // --- Helper Methods ---
 
-    private Integer getPlayerTownId(Player player) {
+    private Town getPlayerTown(Player player) {
         // 현재는 '소유자' 기준으로만 찾음 (가입 시스템 미구현)
-        try (Connection conn = plugin.getDatabaseManager().getConnection();
-                PreparedStatement stmt = conn.prepareStatement("SELECT town_id FROM dw_towns WHERE owner_uuid = ?")) {
-            stmt.setString(1, player.getUniqueId().toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next())
-                    return rs.getInt("town_id");
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return null;
-    }
-
-    private TownInfo getPlayerTownInfo(Player player) {
-        try (Connection conn = plugin.getDatabaseManager().getConnection();
-                PreparedStatement stmt = conn.prepareStatement("SELECT * FROM dw_towns WHERE owner_uuid = ?")) {
-            stmt.setString(1, player.getUniqueId().toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return new TownInfo(
-                            rs.getInt("town_id"),
-                            rs.getString("town_name"),
-                            rs.getString("owner_uuid"),
-                            rs.getDouble("bank_balance"));
-                }
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return null;
-    }
-
-    private double getTownBalance(int townId) {
-        try (Connection conn = plugin.getDatabaseManager().getConnection();
-                PreparedStatement stmt = conn.prepareStatement("SELECT bank_balance FROM dw_towns WHERE town_id = ?")) {
-            stmt.setInt(1, townId);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next())
-                    return rs.getDouble("bank_balance");
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return 0.0;
+        return plugin.getTownManager().getTownOf(player.getUniqueId());
     }
 
     private void sendMessage(CommandSender sender, String message) {
@@ -0,0 +1,14 @@
+package com.dreamwork.core.town;
+
+/**
+ * 마을 정보
+ *
+ * @param id        마을 ID
+ * @param name      마을 이름
+ * @param ownerUuid 촌장 UUID
+ * @param balance   마을 은행 잔고
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public record TownInfo(int id, String name, String ownerUuid, double balance) {
+}
@@ -0,0 +1,234 @@
+package com.dreamwork.core.town;
+
+import com.dreamwork.core.DreamWorkCore;
+import com.dreamwork.core.database.repository.TownRepository;
+import com.dreamwork.core.manager.Manager;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * 마을 매니저
+ * <p>
+ * 시작 시 모든 마을을 불러와 ID/이름/촌장 기준으로 색인해 두고, 이름 중복 검사와
+ * 은행 잔고 조회/변경을 메모리에서 처리합니다. 세금이나 시설 이용료처럼 자주 호출되는 경로도
+ * DB를 거치지 않습니다.
+ * </p>
+ * <p>
+ * 변경된 잔고는 주기적으로 한 트랜잭션에 모아 기록하며(write-behind), 서버 종료 시 남은 변경을 기록합니다.
+ * 마을 생성만 즉시 DB에 기록합니다. (ID 발급)
+ * </p>
+ *
+ * @author DreamWork Team
+ * @since 1.0.0
+ */
+public class TownManager extends Manager {
+
+    private final DreamWorkCore plugin;
+
+    private final Map<Integer, Town> byId = new ConcurrentHashMap<>();
+    /** 소문자 이름 → 마을 */
+    private final Map<String, Town> byName = new ConcurrentHashMap<>();
+    private final Map<UUID, Town> byOwner = new ConcurrentHashMap<>();
+
+    /** 생성 중인 마을 이름 (소문자, 동시 생성 방지) */
+    private final Set<String> reservedNames = ConcurrentHashMap.newKeySet();
+
+    /** 잔고 기록은 한 번에 하나씩 (이전 값이 나중 값을 덮어쓰지 않도록) */
+    private final Object flushLock = new Object();
+
+    private BukkitTask flushTask;
+
+    public TownManager(DreamWorkCore plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void onEnable() {
+        loadTowns();
+        startFlushTask();
+        enabled = true;
+        plugin.getLogger().info("[TownManager] 마을 " + byId.size() + "개 로드 완료");
+    }
+
+    @Override
+    public void onDisable() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flush();
+        enabled = false;
+    }
+
+    @Override
+    public void reload() {
+        // 메모리가 원본이므로 DB에서 다시 읽지 않고, 기록 주기만 다시 적용
+        if (flushTask != null) {
+            flushTask.cancel();
+        }
+        startFlushTask();
+    }
+
+    private void loadTowns() {
+        byId.clear();
+        byName.clear();
+        byOwner.clear();
+        try {
+            for (TownInfo info : repository().loadAll()) {
+                UUID owner;
+                try {
+                    owner = UUID.fromString(info.ownerUuid());
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    plugin.getLogger().warning("[TownManager] 촌장 UUID가 잘못된 마을을 건너뜁니다: " + info.name());
+                    continue;
+                }
+                register(new Town(info.id(), info.name(), owner, info.balance()));
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "[TownManager] 마을 로드 실패", e);
+        }
+    }
+
+    private void startFlushTask() {
+        long interval = Math.max(20L, plugin.getConfig().getLong("town.bank.flush-interval-ticks", 200L));
+        flushTask = plugin.getIoExecutor().repeat("town.flush", interval, interval, this::flush);
+    }
+
+    private void register(Town town) {
+        byId.put(town.getId(), town);
+        byName.put(key(town.getName()), town);
+        byOwner.putIfAbsent(town.getOwner(), town);
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private TownRepository repository() {
+        return plugin.getDatabaseManager().getTownRepository();
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * ID로 마을을 찾습니다.
+     *
+     * @param id 마을 ID
+     * @return 마을 또는 null
+     */
+    public Town getTown(int id) {
+        return byId.get(id);
+    }
+
+    /**
+     * 이름으로 마을을 찾습니다. (대소문자 무시)
+     *
+     * @param name 마을 이름
+     * @return 마을 또는 null
+     */
+    public Town getTown(String name) {
+        return byName.get(key(name));
+    }
+
+    /**
+     * 플레이어의 마을을 찾습니다. (가입 시스템 미구현 - 촌장 기준)
+     *
+     * @param uuid 플레이어 UUID
+     * @return 마을 또는 null
+     */
+    public Town getTownOf(UUID uuid) {
+        return byOwner.get(uuid);
+    }
+
+    /**
+     * 같은 이름의 마을이 있거나 생성 중인지 확인합니다.
+     *
+     * @param name 마을 이름
+     * @return 사용 중이면 true
+     */
+    public boolean isNameTaken(String name) {
+        String key = key(name);
+        return byName.containsKey(key) || reservedNames.contains(key);
+    }
+
+    /**
+     * 모든 마을을 반환합니다.
+     *
+     * @return 읽기 전용 목록
+     */
+    public Collection<Town> getTowns() {
+        return Collections.unmodifiableCollection(byId.values());
+    }
+
+    // ==================== 생성 ====================
+
+    /**
+     * 마을을 생성합니다. 이름을 먼저 예약한 뒤 DB에 기록하고, 성공하면 색인에 등록합니다.
+     *
+     * @param name  마을 이름
+     * @param owner 촌장 UUID
+     * @return 생성된 마을, 이름이 이미 사용 중이면 null (I/O 스레드에서 완료됨)
+     */
+    public CompletableFuture<Town> createTown(String name, UUID owner) {
+        String key = key(name);
+        if (byName.containsKey(key) || !reservedNames.add(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return plugin.getIoExecutor().supply("town.create", () -> {
+            int id = repository().create(name, owner);
+            if (id < 0) {
+                return null;
+            }
+            Town town = new Town(id, name, owner, 0.0);
+            register(town);
+            return town;
+        }).whenComplete((town, error) -> reservedNames.remove(key));
+    }
+
+    // ==================== 기록 ====================
+
+    /**
+     * 변경된 은행 잔고를 한 트랜잭션으로 기록합니다. 실패하면 다음 주기에 다시 시도합니다.
+     * (I/O 스레드 또는 종료 시 호출)
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<Integer, Double> balances = new LinkedHashMap<>();
+            List<Town> pending = new ArrayList<>();
+            for (Town town : byId.values()) {
+                Double balance = town.takeDirtyBalance();
+                if (balance != null) {
+                    balances.put(town.getId(), balance);
+                    pending.add(town);
+                }
+            }
+            if (balances.isEmpty()) {
+                return;
+            }
+
+            try {
+                repository().saveBalances(balances);
+                if (plugin.isDebugMode()) {
+                    plugin.getLogger().info("[TownManager] 마을 잔고 " + balances.size() + "건 기록");
+                }
+            } catch (SQLException | RuntimeException e) {
+                pending.forEach(Town::markDirty);
+                plugin.getLogger().log(Level.WARNING, "[TownManager] 마을 잔고 기록 실패 - 다음 주기에 재시도", e);
+            }
+        }
+    }
+}
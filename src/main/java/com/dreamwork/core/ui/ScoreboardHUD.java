@@ -5,7 +5,6 @@ import com.dreamwork.core.job.JobManager;
 import com.dreamwork.core.job.UserJobData;
 import com.dreamwork.core.database.StorageManager;
 import com.dreamwork.core.model.UserData;
-import com.dreamwork.core.stat.StatManager;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -28,7 +27,6 @@ public class ScoreboardHUD {
     private final DreamWorkCore plugin;
     private final JobManager jobManager;
     private final StorageManager storageManager;
-    private final StatManager statManager;
 
     /** 플레이어별 스코어보드 */
     private final Map<UUID, Scoreboard> playerScoreboards = new ConcurrentHashMap<>();
@@ -37,7 +35,6 @@ public class ScoreboardHUD {
         this.plugin = plugin;
         this.jobManager = plugin.getJobManager();
         this.storageManager = plugin.getStorageManager();
-        this.statManager = plugin.getStatManager();
     }
 
     /**
@@ -100,15 +97,7 @@ public class ScoreboardHUD {
 
         // 자원 정보
         double mana = userData.getCurrentMana();
-
-        // Max Mana Calculation: 100 + (INT * 2)
-        int totalInt = 0;
-        StatManager.PlayerStats stats = statManager.getStats(uuid);
-        if (stats != null) {
-            totalInt = stats.getInt();
-        }
-
-        double maxMana = 100 + (totalInt * 2);
+        double maxMana = userData.getMaxMana();
         String manaBar = createBar(mana, maxMana, "§b", "§7");
         setScore(objective, "§b기력: " + manaBar + " §f" + (int) mana, line--);
 
@@ -0,0 +1,66 @@
+package com.dreamwork.core.stat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link StatParser}가 이전 정규표현식 구현({@link LegacyStatParser})과 같은 결과를 내는지 확인합니다.
+ * <p>
+ * 별칭, 색상 코드, 전각 콜론, 부호, 퍼센트, 범위를 넘는 숫자 등의 조각을 무작위로 이어 붙인 줄로
+ * 모든 공개 메서드를 비교합니다. (고정 시드)
+ * </p>
+ */
+class StatParserDifferentialTest {
+
+    private static final String[] FRAGMENTS = {
+            "힘", " : ", ":", "+", "10", "§a", "&c", "&&b", "STR", "Strength", "채굴속도", "속도", "hp", "icon",
+            "luk", "럭", "：", "5.5", "%", " ", "-3", "99999999999", "crit", "int", "INT", "공격력", "체력", "x", "/",
+            "dex", "12", "0", ".5", "mining"
+    };
+
+    private static final String[] STAT_NAMES = {
+            "str", "dex", "con", "int", "luck", "crit", "mining", "fishing", "foo", "HP"
+    };
+
+    private static final int LINES = 20_000;
+
+    private final LegacyStatParser legacy = new LegacyStatParser();
+    private final StatParser parser = new StatParser();
+
+    @Test
+    void matchesLegacyParserOnRandomLines() {
+        Random random = new Random(1L);
+        for (int i = 0; i < LINES; i++) {
+            String line = randomLine(random);
+            for (String stat : STAT_NAMES) {
+                String context = stat + " [" + line + "]";
+                assertEquals(legacy.parseInt(line, stat), parser.parseInt(line, stat), context);
+                assertEquals(legacy.parsePercent(line, stat), parser.parsePercent(line, stat), context);
+                assertEquals(legacy.matches(line, stat), parser.matches(line, stat), context);
+            }
+
+            List<String> lore = List.of(line, line + "힘:3");
+            assertArrayEquals(legacy.parseAllStats(lore), parser.parseAllStats(lore), "[" + line + "]");
+        }
+    }
+
+    @Test
+    void matchesLegacyParserOnItemLore() {
+        List<String> lore = List.of("§7힘: +10", "§7민첩: +5", "§7채굴 속도: +5%", "§7체력: 20", "§7지능: 3", "§7행운: 2");
+        assertArrayEquals(legacy.parseAllStats(lore), parser.parseAllStats(lore));
+    }
+
+    private static String randomLine(Random random) {
+        StringBuilder line = new StringBuilder();
+        int parts = 1 + random.nextInt(8);
+        for (int i = 0; i < parts; i++) {
+            line.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return line.toString();
+    }
+}